@@ -1,13 +1,18 @@
 package com.kaamsetu.config;
 
+import com.kaamsetu.entity.User;
+import com.kaamsetu.event.UserChangedEvent;
 import com.kaamsetu.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -17,6 +22,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 public class AppConfig {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Bean
     public UserDetailsService userDetailsService() {
@@ -24,16 +30,29 @@ public class AppConfig {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + phone));
     }
 
+    // Direct encoder for seeding; request paths go through PasswordHasher
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder passwordEncoder(@Value("${app.security.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
+    // Stores a rehashed password after a successful login (see PasswordHasher.upgradeEncoding)
     @Bean
-    public AuthenticationProvider authenticationProvider() {
-        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+    public UserDetailsPasswordService userDetailsPasswordService() {
+        return (user, newPassword) -> {
+            User entity = (User) user;
+            userRepository.updatePassword(entity.getId(), newPassword);
+            eventPublisher.publishEvent(new UserChangedEvent(entity.getPhone()));
+            entity.setPassword(newPassword);
+            return entity;
+        };
+    }
+
+    @Bean
+    public AuthenticationProvider authenticationProvider(PasswordHasher passwordHasher) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(passwordHasher);
         provider.setUserDetailsService(userDetailsService());
-        provider.setPasswordEncoder(passwordEncoder());
+        provider.setUserDetailsPasswordService(userDetailsPasswordService());
         return provider;
     }
 
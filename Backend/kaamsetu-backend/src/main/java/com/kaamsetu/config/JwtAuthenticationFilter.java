@@ -1,10 +1,11 @@
 package com.kaamsetu.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -17,11 +18,25 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final Timer verificationTimer;
+
+    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService,
+                                   PrincipalCache principalCache, VerifiedTokenCache verifiedTokenCache,
+                                   MeterRegistry meterRegistry) {
+        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.verificationTimer = Timer.builder("kaamsetu.jwt.verification")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 
     @Override
     protected void doFilterInternal(
@@ -40,12 +55,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         final String jwt = authHeader.substring(7);
 
         try {
-            final String phone = jwtService.extractUsername(jwt);
+            // Times the signature check only; cache hits skip it entirely
+            final VerifiedToken token = verifiedTokenCache.verify(jwt, candidate ->
+                    verificationTimer.record(() -> jwtService.parseClaims(candidate)));
+            final String phone = token.getSubject();
 
             if (phone != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(phone);
+                UserDetails userDetails =
+                        principalCache.get(phone, userDetailsService::loadUserByUsername);
 
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                if (jwtService.isTokenValid(token, userDetails)) {
                     UsernamePasswordAuthenticationToken authToken =
                             new UsernamePasswordAuthenticationToken(
                                     userDetails, null, userDetails.getAuthorities()
@@ -0,0 +1,111 @@
+package com.kaamsetu.config;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.kaamsetu.service.OpenTaskIndex;
+import com.kaamsetu.service.TaskFeedBroadcaster;
+import com.kaamsetu.service.TaskFeedCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Meters for the in-process caches, pools and Hibernate statistics. HTTP, Hikari and
+ * JVM meters come from Actuator; TaskService timers from {@code @Timed}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+
+    // Requires hibernate.generate_statistics=true; counters stay at zero otherwise
+    @Bean
+    public MeterBinder hibernateStatisticsMetrics(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            counter(registry, "hibernate.statements.prepared", statistics, Statistics::getPrepareStatementCount);
+            counter(registry, "hibernate.queries.executed", statistics, Statistics::getQueryExecutionCount);
+            counter(registry, "hibernate.entities.loaded", statistics, Statistics::getEntityLoadCount);
+            counter(registry, "hibernate.entities.fetched", statistics, Statistics::getEntityFetchCount);
+            counter(registry, "hibernate.collections.loaded", statistics, Statistics::getCollectionLoadCount);
+            counter(registry, "hibernate.transactions", statistics, Statistics::getTransactionCount);
+            counter(registry, "hibernate.optimistic.failures", statistics, Statistics::getOptimisticFailureCount);
+        };
+    }
+
+    @Bean
+    public MeterBinder cacheMetrics(PrincipalCache principalCache, VerifiedTokenCache verifiedTokenCache,
+                                    TaskFeedCache taskFeedCache) {
+        return registry -> {
+            bindCache(registry, "principal", principalCache, PrincipalCache::stats, PrincipalCache::size);
+            bindCache(registry, "verified-token", verifiedTokenCache,
+                    VerifiedTokenCache::stats, VerifiedTokenCache::size);
+            bindCache(registry, "task-feed", taskFeedCache, TaskFeedCache::stats, TaskFeedCache::size);
+
+            FunctionCounter.builder("kaamsetu.feed.cache.invalidations", taskFeedCache,
+                            TaskFeedCache::invalidations)
+                    .register(registry);
+            Gauge.builder("kaamsetu.feed.cache.staleness", taskFeedCache,
+                            TaskFeedCache::averageStalenessMillis)
+                    .description("Mean age of feed pages served from the cache")
+                    .baseUnit("milliseconds")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder applicationMetrics(PasswordHasher passwordHasher, TaskFeedBroadcaster taskFeedBroadcaster,
+                                          OpenTaskIndex openTaskIndex, RateLimiter rateLimiter) {
+        return registry -> {
+            Gauge.builder("kaamsetu.password.hashing.queue", passwordHasher, PasswordHasher::queueDepth)
+                    .register(registry);
+            Gauge.builder("kaamsetu.password.hashing.active", passwordHasher, PasswordHasher::activeCount)
+                    .register(registry);
+            FunctionCounter.builder("kaamsetu.password.hashing.rejected", passwordHasher,
+                            PasswordHasher::rejectedCount)
+                    .register(registry);
+            Gauge.builder("kaamsetu.feed.stream.subscribers", taskFeedBroadcaster,
+                            TaskFeedBroadcaster::subscriberCount)
+                    .register(registry);
+            Gauge.builder("kaamsetu.recommendations.open.tasks", openTaskIndex, OpenTaskIndex::size)
+                    .register(registry);
+            Gauge.builder("kaamsetu.rate.limit.buckets", rateLimiter, RateLimiter::size)
+                    .register(registry);
+        };
+    }
+
+    private static void counter(MeterRegistry registry, String name, Statistics statistics,
+                                ToDoubleFunction<Statistics> value) {
+        FunctionCounter.builder(name, statistics, value).register(registry);
+    }
+
+    // Meters hold their state object weakly, so pass the (singleton) cache itself, not a lambda
+    private static <T> void bindCache(MeterRegistry registry, String cache, T owner,
+                                      Function<T, CacheStats> stats, ToDoubleFunction<T> size) {
+        FunctionCounter.builder("kaamsetu.cache.gets", owner, o -> stats.apply(o).hitCount())
+                .tags("cache", cache, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("kaamsetu.cache.gets", owner, o -> stats.apply(o).missCount())
+                .tags("cache", cache, "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("kaamsetu.cache.evictions", owner, o -> stats.apply(o).evictionCount())
+                .tag("cache", cache)
+                .register(registry);
+        Gauge.builder("kaamsetu.cache.size", owner, size)
+                .tag("cache", cache)
+                .register(registry);
+    }
+}
@@ -0,0 +1,60 @@
+package com.kaamsetu.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Size- and time-bounded cache of authenticated principals keyed by phone,
+ * so a valid JWT does not cost a user + skills lookup on every request.
+ * Entries are dropped by {@link PrincipalCacheInvalidator} when a user row changes,
+ * whether through the entity or a bulk update.
+ */
+@Component
+public class PrincipalCache {
+
+    private final Cache<String, UserDetails> cache;
+
+    public PrincipalCache(
+            @Value("${app.security.principal-cache.max-size:10000}") long maxSize,
+            @Value("${app.security.principal-cache.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public UserDetails get(String phone, Function<String, UserDetails> loader) {
+        // Load outside the cache: Cache.get(key, loader) runs it inside a synchronized map bin,
+        // which would pin a virtual thread's carrier for the whole user lookup. A concurrent
+        // miss may load twice; the last put wins and both results are equivalent.
+        UserDetails cached = cache.getIfPresent(phone);
+        if (cached != null) {
+            return cached;
+        }
+        UserDetails loaded = loader.apply(phone);
+        cache.put(phone, loaded);
+        return loaded;
+    }
+
+    public void invalidate(String phone) {
+        if (phone != null) {
+            cache.invalidate(phone);
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
@@ -0,0 +1,29 @@
+package com.kaamsetu.config;
+
+import com.kaamsetu.entity.User;
+import com.kaamsetu.event.UserChangedEvent;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// JPA entity listener on User (Hibernate resolves it as a Spring bean), plus bulk-update events
+@Component
+@RequiredArgsConstructor
+public class PrincipalCacheInvalidator {
+
+    private final PrincipalCache principalCache;
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        principalCache.invalidate(user.getPhone());
+    }
+
+    // After commit, so a concurrent request cannot re-cache the pre-update row
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBulkUpdate(UserChangedEvent event) {
+        principalCache.invalidate(event.getPhone());
+    }
+}
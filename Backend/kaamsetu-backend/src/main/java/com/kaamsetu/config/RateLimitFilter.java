@@ -0,0 +1,230 @@
+package com.kaamsetu.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kaamsetu.dto.ApiResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Throttles auth and write endpoints before any JWT, BCrypt or database work.
+ * IP limits are generous because mobile carriers put many users behind one address.
+ * The tight login limit is per phone and client address, so nobody can lock a user out
+ * just by knowing their number; the per-phone limit across all addresses stays loose,
+ * above what one address can send. The client address comes from
+ * {@code getRemoteAddr()}, which the container resolves from X-Forwarded-For behind a
+ * trusted proxy ({@code server.forward-headers-strategy=native}).
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final int MAX_BODY_BYTES = 16 * 1024;
+
+    private enum KeyType { IP, PHONE, PHONE_IP }
+
+    private record Rule(String name, HttpMethod method, PathPattern path, KeyType keyType,
+                        int capacity, Duration period) {
+    }
+
+    private record Acquired(String bucket, Rule rule) {
+    }
+
+    private static final PathPatternParser PARSER = new PathPatternParser();
+
+    private static final List<Rule> RULES = List.of(
+            new Rule("login-ip", HttpMethod.POST, PARSER.parse("/auth/login"), KeyType.IP, 60, Duration.ofMinutes(1)),
+            new Rule("login-phone-ip", HttpMethod.POST, PARSER.parse("/auth/login"), KeyType.PHONE_IP, 5, Duration.ofMinutes(1)),
+            new Rule("login-phone", HttpMethod.POST, PARSER.parse("/auth/login"), KeyType.PHONE, 20, Duration.ofMinutes(1)),
+            new Rule("register-ip", HttpMethod.POST, PARSER.parse("/auth/register"), KeyType.IP, 20, Duration.ofMinutes(10)),
+            new Rule("register-phone", HttpMethod.POST, PARSER.parse("/auth/register"), KeyType.PHONE, 3, Duration.ofMinutes(10)),
+            new Rule("task-create-ip", HttpMethod.POST, PARSER.parse("/tasks"), KeyType.IP, 30, Duration.ofMinutes(1)),
+            new Rule("task-apply-ip", HttpMethod.POST, PARSER.parse("/tasks/{taskId}/apply"), KeyType.IP, 60, Duration.ofMinutes(1))
+    );
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    public RateLimitFilter(RateLimiter rateLimiter, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                           @Value("${app.rate-limit.enabled:true}") boolean enabled) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (!enabled) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        PathContainer path = PathContainer.parsePath(
+                request.getRequestURI().substring(request.getContextPath().length()));
+        List<Rule> matching = RULES.stream()
+                .filter(rule -> rule.method().matches(request.getMethod()) && rule.path().matches(path))
+                .collect(Collectors.toList());
+        if (matching.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest current = request;
+        String phone = null;
+        if (matching.stream().anyMatch(rule -> rule.keyType() != KeyType.IP)) {
+            // A body we won't parse would skip the per-phone limit, so refuse it outright
+            CachedBodyRequest cached = CachedBodyRequest.of(request);
+            if (cached == null) {
+                meterRegistry.counter("kaamsetu.rate.limit.rejected", "rule", "body-too-large").increment();
+                respond(response, HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, "Request body too large");
+                return;
+            }
+            current = cached;
+            phone = cached.phone(objectMapper);
+        }
+
+        // A request refused by a later rule gives back what earlier rules took, so failed
+        // attempts don't drain the client's other buckets
+        List<Acquired> acquired = new ArrayList<>();
+        for (Rule rule : matching) {
+            String key = switch (rule.keyType()) {
+                case IP -> request.getRemoteAddr();
+                case PHONE -> phone;
+                case PHONE_IP -> phone == null ? null : phone + "@" + request.getRemoteAddr();
+            };
+            if (key == null) {
+                continue;
+            }
+            String bucket = rule.name() + ":" + key;
+            long waitNanos = rateLimiter.tryAcquire(bucket, rule.capacity(), rule.period());
+            if (waitNanos > 0) {
+                for (Acquired earlier : acquired) {
+                    rateLimiter.release(earlier.bucket(), earlier.rule().capacity(), earlier.rule().period());
+                }
+                meterRegistry.counter("kaamsetu.rate.limit.rejected", "rule", rule.name()).increment();
+                reject(response, waitNanos);
+                return;
+            }
+            acquired.add(new Acquired(bucket, rule));
+        }
+
+        filterChain.doFilter(current, response);
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        response.setHeader("Retry-After", String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1)));
+        respond(response, HttpStatus.TOO_MANY_REQUESTS.value(), "Too many requests, please slow down");
+    }
+
+    private void respond(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(message));
+    }
+
+    // Buffers a small JSON body so the phone can be read here and the body still reaches the controller
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        // Null when the body is over MAX_BODY_BYTES, by Content-Length or by what was actually sent
+        static CachedBodyRequest of(HttpServletRequest request) throws IOException {
+            if (request.getContentLengthLong() > MAX_BODY_BYTES) {
+                return null;
+            }
+            byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+            return body.length > MAX_BODY_BYTES ? null : new CachedBodyRequest(request, body);
+        }
+
+        String phone(ObjectMapper objectMapper) {
+            try {
+                JsonNode phone = objectMapper.readTree(body).get("phone");
+                // Value nodes, not just strings: Jackson would bind {"phone": 98...} to the DTO too
+                return phone != null && phone.isValueNode() && !phone.isNull() ? phone.asText().trim() : null;
+            } catch (IOException e) {
+                return null; // malformed JSON is rejected by the controller
+            }
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            InputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                private boolean finished;
+
+                @Override
+                public boolean isFinished() {
+                    return finished;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() throws IOException {
+                    int value = input.read();
+                    finished = value == -1;
+                    return value;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int count = input.read(buffer, offset, length);
+                    finished = count == -1;
+                    return count;
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
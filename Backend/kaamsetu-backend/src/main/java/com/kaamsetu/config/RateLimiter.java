@@ -0,0 +1,76 @@
+package com.kaamsetu.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets in GCRA form: each bucket is a single {@link AtomicLong} holding the
+ * theoretical arrival time of the next request, advanced with CAS, so acquiring never
+ * locks. Buckets live in a size-bounded cache and are evicted once idle. Time comes from
+ * a Caffeine {@link Ticker}, the system one unless a {@code Ticker} bean is defined.
+ */
+@Component
+public class RateLimiter {
+
+    private final Cache<String, AtomicLong> buckets;
+    private final Ticker ticker;
+
+    public RateLimiter(
+            @Value("${app.rate-limit.max-keys:100000}") long maxKeys,
+            @Value("${app.rate-limit.idle-timeout:15m}") Duration idleTimeout,
+            ObjectProvider<Ticker> ticker) {
+        this.ticker = ticker.getIfAvailable(Ticker::systemTicker);
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleTimeout)
+                .ticker(this.ticker)
+                .build();
+    }
+
+    /**
+     * Takes one token from the bucket for {@code key}, which holds {@code capacity}
+     * tokens refilled evenly over {@code period}.
+     *
+     * @return 0 if allowed, otherwise nanoseconds until a token is available
+     */
+    public long tryAcquire(String key, int capacity, Duration period) {
+        long intervalNanos = period.toNanos() / capacity;
+        long burstNanos = period.toNanos();
+        AtomicLong arrival = buckets.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+
+        while (true) {
+            long now = ticker.read();
+            long current = arrival.get();
+            long next = (current == Long.MIN_VALUE || current - now < 0 ? now : current) + intervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Returns a token taken by {@link #tryAcquire} for a request that was then refused
+     * anyway. A bucket that has since refilled or been evicted is left as it is.
+     */
+    public void release(String key, int capacity, Duration period) {
+        AtomicLong arrival = buckets.getIfPresent(key);
+        if (arrival != null) {
+            arrival.addAndGet(-(period.toNanos() / capacity));
+        }
+    }
+
+    public long size() {
+        return buckets.estimatedSize();
+    }
+}
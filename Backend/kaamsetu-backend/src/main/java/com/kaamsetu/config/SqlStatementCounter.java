@@ -0,0 +1,69 @@
+package com.kaamsetu.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts SQL statements Hibernate prepares on the current thread between
+ * {@link #start()} and {@link #stop()}, and optionally enforces a statement budget.
+ * Registered as the session factory's statement inspector in {@link MetricsConfig}.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Count> CURRENT = new ThreadLocal<>();
+    // Total of the last finished count on this thread; read by tests after a MockMvc call
+    private static final ThreadLocal<Integer> LAST_COMPLETED = new ThreadLocal<>();
+
+    private static final class Count {
+        int statements;
+        int budget;
+        boolean failOnExceed;
+    }
+
+    public static void start() {
+        CURRENT.set(new Count());
+    }
+
+    /** Ends counting on this thread and returns the number of statements seen. */
+    public static int stop() {
+        Count count = CURRENT.get();
+        CURRENT.remove();
+        int statements = count == null ? 0 : count.statements;
+        LAST_COMPLETED.set(statements);
+        return statements;
+    }
+
+    public static int current() {
+        Count count = CURRENT.get();
+        return count == null ? 0 : count.statements;
+    }
+
+    /** Sets the budget for the count in progress; with {@code failOnExceed} the next statement over it throws. */
+    public static void limit(int budget, boolean failOnExceed) {
+        Count count = CURRENT.get();
+        if (count != null) {
+            count.budget = budget;
+            count.failOnExceed = failOnExceed;
+        }
+    }
+
+    public static Integer lastCompleted() {
+        return LAST_COMPLETED.get();
+    }
+
+    public static void clearLastCompleted() {
+        LAST_COMPLETED.remove();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Count count = CURRENT.get();
+        if (count != null) {
+            count.statements++;
+            if (count.failOnExceed && count.budget > 0 && count.statements > count.budget) {
+                throw new IllegalStateException("SQL statement budget of " + count.budget
+                        + " exceeded by: " + sql);
+            }
+        }
+        return sql;
+    }
+}
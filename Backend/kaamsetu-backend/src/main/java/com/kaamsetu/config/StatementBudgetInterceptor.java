@@ -0,0 +1,65 @@
+package com.kaamsetu.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Applies a SQL statement budget to each controller call, counted by
+ * {@link SqlStatementCounter} from the start of the request (security included).
+ * Mode {@code log} warns after the fact, {@code fail} throws on the first statement
+ * over budget, {@code off} does nothing.
+ */
+@Component
+@Slf4j
+public class StatementBudgetInterceptor implements HandlerInterceptor {
+
+    private final String mode;
+    private final int defaultBudget;
+
+    public StatementBudgetInterceptor(
+            @Value("${app.sql.statement-budget.mode:off}") String mode,
+            @Value("${app.sql.statement-budget.default:25}") int defaultBudget) {
+        this.mode = mode;
+        this.defaultBudget = defaultBudget;
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        if (!"off".equalsIgnoreCase(mode)) {
+            SqlStatementCounter.limit(budgetFor(handler), "fail".equalsIgnoreCase(mode));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, Exception ex) {
+        if (!"log".equalsIgnoreCase(mode)) {
+            return;
+        }
+        int statements = SqlStatementCounter.current();
+        int budget = budgetFor(handler);
+        if (statements > budget) {
+            log.warn("{} {} issued {} SQL statements (budget {})", request.getMethod(),
+                    request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE), statements, budget);
+        }
+    }
+
+    private int budgetFor(Object handler) {
+        if (handler instanceof HandlerMethod method) {
+            StatementBudget budget = method.getMethodAnnotation(StatementBudget.class);
+            if (budget != null) {
+                return budget.value();
+            }
+        }
+        return defaultBudget;
+    }
+}
@@ -0,0 +1,24 @@
+package com.kaamsetu.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers {@value #TASK_MATCHES}(id, tsquery) so feed queries can filter on the
+ * PostgreSQL search_vector column, which is not mapped on {@code Task}. Only rendered
+ * when app.search.engine=postgres; loaded through META-INF/services.
+ */
+public class TaskSearchFunctionContributor implements FunctionContributor {
+
+    public static final String TASK_MATCHES = "task_search_matches";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                TASK_MATCHES,
+                "(?1 in (select s.id from tasks s where s.search_vector @@ to_tsquery('simple', ?2)))",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.BOOLEAN));
+    }
+}
@@ -0,0 +1,22 @@
+package com.kaamsetu.config;
+
+import io.jsonwebtoken.Claims;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// The parts of a signature-checked JWT needed to authenticate a request
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+
+    private final String subject;
+    private final long expiresAtMillis;
+
+    public static VerifiedToken from(Claims claims) {
+        return new VerifiedToken(claims.getSubject(), claims.getExpiration().getTime());
+    }
+
+    public boolean isExpired() {
+        return System.currentTimeMillis() >= expiresAtMillis;
+    }
+}
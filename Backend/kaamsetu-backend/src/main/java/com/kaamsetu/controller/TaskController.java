@@ -1,17 +1,33 @@
 package com.kaamsetu.controller;
 
+import com.kaamsetu.config.StatementBudget;
 import com.kaamsetu.dto.ApplicationRequest;
 import com.kaamsetu.dto.ApplicationResponse;
+import com.kaamsetu.dto.AppliedTaskResponse;
+import com.kaamsetu.dto.CursorPageResponse;
+import com.kaamsetu.dto.RatingRequest;
+import com.kaamsetu.dto.RatingResponse;
 import com.kaamsetu.dto.TaskRequest;
 import com.kaamsetu.dto.TaskResponse;
+import com.kaamsetu.dto.TaskSummaryResponse;
 import com.kaamsetu.entity.User;
+import com.kaamsetu.enums.UrgencyLevel;
+import com.kaamsetu.exception.BadRequestException;
+import com.kaamsetu.repository.TaskVersion;
+import com.kaamsetu.service.RatingService;
+import com.kaamsetu.service.TaskFeedBroadcaster;
+import com.kaamsetu.service.TaskFeedCache;
 import com.kaamsetu.service.TaskService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -21,19 +37,86 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final RatingService ratingService;
+    private final TaskFeedCache taskFeedCache;
+    private final TaskFeedBroadcaster taskFeedBroadcaster;
 
     @GetMapping
-    public ResponseEntity<List<TaskResponse>> getAllTasks(
+    public ResponseEntity<CursorPageResponse<?>> getAllTasks(
             @RequestParam(required = false) String category,
             @RequestParam(required = false) String urgency,
             @RequestParam(required = false) String status,
-            @RequestParam(required = false) String search) {
-        return ResponseEntity.ok(taskService.getAllTasks(category, urgency, status, search));
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String expand) {
+        boolean withApplications = expandsApplications(expand);
+        return ResponseEntity.ok(taskFeedCache.get(
+                category, urgency, status, search, cursor, size, withApplications,
+                () -> withApplications
+                        ? taskService.getAllTasksWithApplications(category, urgency, status, search, cursor, size)
+                        : taskService.getAllTasks(category, urgency, status, search, cursor, size)));
+    }
+
+    // Live feed: task-created and status-changed events as Server-Sent Events
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTasks(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String urgency,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lng,
+            @RequestParam(required = false) Double radiusKm) {
+        if (radiusKm != null && (lat == null || lng == null)) {
+            throw new BadRequestException("lat and lng are required with radiusKm");
+        }
+        UrgencyLevel urgencyLevel = null;
+        if (urgency != null && !urgency.isEmpty()) {
+            try {
+                urgencyLevel = UrgencyLevel.valueOf(urgency.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Invalid urgency: " + urgency);
+            }
+        }
+        return taskFeedBroadcaster.subscribe(category, urgencyLevel, lat, lng, radiusKm);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<TaskSummaryResponse>> searchTasks(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(taskService.searchTasks(q, limit));
+    }
+
+    @GetMapping("/recommended")
+    public ResponseEntity<List<TaskSummaryResponse>> getRecommendedTasks(
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lng,
+            @RequestParam(required = false) Integer limit,
+            @AuthenticationPrincipal User currentUser) {
+        return ResponseEntity.ok(taskService.getRecommendedTasks(currentUser, lat, lng, limit));
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<List<TaskSummaryResponse>> getNearbyTasks(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(required = false) Double radiusKm) {
+        return ResponseEntity.ok(taskService.getNearbyTasks(lat, lng, radiusKm));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id) {
-        return ResponseEntity.ok(taskService.getTaskById(id));
+    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id, WebRequest request) {
+        // Validators come from a version-only query; a match skips loading the task.
+        // No Last-Modified: updatedAt does not move when an embedded user changes.
+        TaskVersion version = taskService.getTaskVersion(id);
+        String etag = "\"task-" + id + "-" + version.getVersion() + "-" + version.getUserRevision() + "\"";
+        if (request.checkNotModified(etag)) {
+            return null; // 304 already written
+        }
+        // no-cache (not Security's default no-store) so clients keep the body and revalidate
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(taskService.getTaskById(id));
     }
 
     @PostMapping
@@ -69,13 +152,37 @@ public class TaskController {
         return ResponseEntity.ok(taskService.completeTask(taskId, currentUser));
     }
 
+    @PostMapping("/{taskId}/rating")
+    public ResponseEntity<RatingResponse> rateTask(
+            @PathVariable Long taskId,
+            @Valid @RequestBody RatingRequest request,
+            @AuthenticationPrincipal User currentUser) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ratingService.rateTask(taskId, request, currentUser));
+    }
+
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<TaskResponse>> getTasksByUser(@PathVariable Long userId) {
+    public ResponseEntity<List<?>> getTasksByUser(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String expand) {
+        if (expandsApplications(expand)) {
+            return ResponseEntity.ok(taskService.getTasksByUserWithApplications(userId));
+        }
         return ResponseEntity.ok(taskService.getTasksByUser(userId));
     }
 
+    // One join query per page (see TaskService.getAppliedTasks), plus a principal load on cache miss
+    @StatementBudget(5)
     @GetMapping("/applied/{userId}")
-    public ResponseEntity<List<TaskResponse>> getAppliedTasks(@PathVariable Long userId) {
-        return ResponseEntity.ok(taskService.getAppliedTasks(userId));
+    public ResponseEntity<CursorPageResponse<AppliedTaskResponse>> getAppliedTasks(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(taskService.getAppliedTasks(userId, cursor, size));
+    }
+
+    // List endpoints return summaries unless ?expand=applications is requested
+    private boolean expandsApplications(String expand) {
+        return "applications".equalsIgnoreCase(expand);
     }
 }
\ No newline at end of file
@@ -1,13 +1,19 @@
 package com.kaamsetu.controller;
 
+import com.kaamsetu.dto.RatingResponse;
 import com.kaamsetu.dto.UserResponse;
+import com.kaamsetu.service.RatingService;
 import com.kaamsetu.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/users")
@@ -15,9 +21,21 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserController {
 
     private final UserService userService;
+    private final RatingService ratingService;
 
     @GetMapping("/{id}")
-    public ResponseEntity<UserResponse> getUserById(@PathVariable Long id) {
-        return ResponseEntity.ok(userService.getUserById(id));
+    public ResponseEntity<UserResponse> getUserById(@PathVariable Long id, WebRequest request) {
+        String etag = "\"user-" + id + "-" + userService.getUserRevision(id) + "\"";
+        if (request.checkNotModified(etag)) {
+            return null; // 304 already written
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(userService.getUserById(id));
+    }
+
+    @GetMapping("/{id}/ratings")
+    public ResponseEntity<List<RatingResponse>> getUserRatings(@PathVariable Long id) {
+        return ResponseEntity.ok(ratingService.getRatingsForUser(id));
     }
-}
\ No newline at end of file
+}
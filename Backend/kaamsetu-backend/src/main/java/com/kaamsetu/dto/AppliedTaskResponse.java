@@ -0,0 +1,28 @@
+package com.kaamsetu.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class AppliedTaskResponse {
+    private Long id;
+    private String title;
+    private String description;
+    private String category;
+    private Integer budget;
+    private String urgency;
+    private String status;
+    private LocationDto location;
+    private Long createdBy;
+    private String createdByName;
+    private String createdAt;
+    private long applicationCount;
+    private Long acceptedWorker;
+
+    // The requesting worker's own application to this task
+    private Long applicationId;
+    private String applicationStatus;
+    private Integer proposedBudget;
+    private String appliedAt;
+}
@@ -16,5 +16,7 @@ public class AuthResponse {
     private List<String> skills;
     private Double rating;
     private Integer tasksCompleted;
+    private Integer tasksPosted;
+    private Integer applicationsSent;
     private String createdAt;
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.kaamsetu.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class RatingResponse {
+    private Long id;
+    private Long taskId;
+    private Long givenBy;
+    private String givenByName;
+    private Long givenTo;
+    private Integer stars;
+    private String review;
+    private String createdAt;
+}
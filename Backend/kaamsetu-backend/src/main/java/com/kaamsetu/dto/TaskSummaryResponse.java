@@ -0,0 +1,26 @@
+package com.kaamsetu.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class TaskSummaryResponse {
+    private Long id;
+    private String title;
+    private String description;
+    private String category;
+    private Integer budget;
+    private String urgency;
+    private String status;
+    private LocationDto location;
+    private Long createdBy;
+    private String createdByName;
+    private String createdAt;
+    private long applicationCount;
+    private Long acceptedWorker;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double distanceKm;
+}
@@ -15,5 +15,7 @@ public class UserResponse {
     private List<String> skills;
     private Double rating;
     private Integer tasksCompleted;
+    private Integer tasksPosted;
+    private Integer applicationsSent;
     private String createdAt;
 }
\ No newline at end of file
@@ -2,8 +2,10 @@ package com.kaamsetu.entity;
 
 import com.kaamsetu.enums.TaskStatus;
 import com.kaamsetu.enums.UrgencyLevel;
+import com.kaamsetu.util.GeoGrid;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -46,6 +48,10 @@ public class Task {
     @Embedded
     private Location location;
 
+    // Spatial grid cell derived from location, see GeoGrid
+    @Column(name = "geo_cell")
+    private Long geoCell;
+
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "created_by", nullable = false)
     private User createdBy;
@@ -61,16 +67,27 @@ public class Task {
     @Column(updatable = false)
     private LocalDateTime createdAt;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     private LocalDateTime updatedAt;
 
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
+        updateGeoCell();
     }
 
     @PreUpdate
     protected void onUpdate() {
         this.updatedAt = LocalDateTime.now();
+        updateGeoCell();
+    }
+
+    private void updateGeoCell() {
+        this.geoCell = location != null ? GeoGrid.cellOf(location.getLat(), location.getLng()) : null;
     }
 }
\ No newline at end of file
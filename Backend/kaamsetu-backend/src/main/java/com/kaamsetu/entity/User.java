@@ -1,8 +1,10 @@
 package com.kaamsetu.entity;
 
+import com.kaamsetu.config.PrincipalCacheInvalidator;
 import com.kaamsetu.enums.Role;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -14,6 +16,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(PrincipalCacheInvalidator.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -44,23 +47,56 @@ public class User implements UserDetails {
     @Builder.Default
     private List<String> skills = new ArrayList<>();
 
+    // Average of received ratings, kept in step with ratingSum / ratingCount on every insert
     @Builder.Default
     private Double rating = 0.0;
 
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long ratingSum = 0L;
+
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Integer ratingCount = 0;
+
+    // Counters below are only ever changed via UserRepository.incrementCounter
     @Builder.Default
     private Integer tasksCompleted = 0;
 
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Integer tasksPosted = 0;
+
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Integer applicationsSent = 0;
+
     private Double latitude;
     private Double longitude;
 
     @Column(updatable = false)
     private LocalDateTime createdAt;
 
+    // Bumped on every change to the row (entity or bulk update); used as the profile ETag
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long revision = 0L;
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
     }
 
+    @PreUpdate
+    protected void onUpdate() {
+        this.revision = revision == null ? 1 : revision + 1;
+    }
+
     // ─── UserDetails Implementation ───
 
     @Override
@@ -0,0 +1,8 @@
+package com.kaamsetu.enums;
+
+public enum TaskEventType {
+    CREATED,
+    APPLIED,
+    ACCEPTED,
+    COMPLETED
+}
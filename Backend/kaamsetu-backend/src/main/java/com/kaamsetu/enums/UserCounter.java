@@ -0,0 +1,18 @@
+package com.kaamsetu.enums;
+
+// Denormalised per-user counters on User, each backed by an integer column
+public enum UserCounter {
+    TASKS_POSTED("tasksPosted"),
+    APPLICATIONS_SENT("applicationsSent"),
+    TASKS_COMPLETED("tasksCompleted");
+
+    private final String field;
+
+    UserCounter(String field) {
+        this.field = field;
+    }
+
+    public String getField() {
+        return field;
+    }
+}
@@ -0,0 +1,16 @@
+package com.kaamsetu.event;
+
+import com.kaamsetu.enums.TaskEventType;
+import com.kaamsetu.enums.TaskStatus;
+import lombok.Value;
+
+/**
+ * Published by {@link com.kaamsetu.service.TaskService} whenever a task or its
+ * applications change in a way visible in the feed.
+ */
+@Value
+public class TaskChangedEvent {
+    Long taskId;
+    TaskEventType type;
+    TaskStatus status;
+}
@@ -0,0 +1,12 @@
+package com.kaamsetu.event;
+
+import lombok.Value;
+
+/**
+ * Published after a bulk JPQL update of a user row (counters, ratings, password rehash).
+ * Those bypass JPA entity callbacks, so listeners cannot rely on {@code @PostUpdate}.
+ */
+@Value
+public class UserChangedEvent {
+    String phone;
+}
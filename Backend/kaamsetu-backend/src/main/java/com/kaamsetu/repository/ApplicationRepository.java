@@ -3,15 +3,57 @@ package com.kaamsetu.repository;
 import com.kaamsetu.entity.Application;
 import com.kaamsetu.entity.Task;
 import com.kaamsetu.entity.User;
+import com.kaamsetu.enums.ApplicationStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
     List<Application> findByTask(Task task);
     List<Application> findByWorker(User worker);
     boolean existsByTaskAndWorker(Task task, User worker);
-    List<Application> findByTaskId(Long taskId);
-}
\ No newline at end of file
+
+    // Keyset page of a worker's applications, newest first, with everything the list shows in one query
+    @Query("SELECT t.id AS taskId, t.title AS title, t.description AS description, "
+            + "t.category AS category, t.budget AS budget, t.urgency AS urgency, t.status AS status, "
+            + "t.location.lat AS lat, t.location.lng AS lng, t.location.address AS address, "
+            + "cb.id AS createdById, cb.name AS createdByName, t.createdAt AS createdAt, "
+            + "t.acceptedWorker.id AS acceptedWorkerId, "
+            + "(SELECT COUNT(a2) FROM Application a2 WHERE a2.task = t) AS applicationCount, "
+            + "a.id AS applicationId, a.status AS applicationStatus, "
+            + "a.proposedBudget AS proposedBudget, a.appliedAt AS appliedAt "
+            + "FROM Application a JOIN a.task t JOIN t.createdBy cb "
+            + "WHERE a.worker.id = :workerId AND a.id < :beforeId ORDER BY a.id DESC")
+    List<AppliedTaskRow> findAppliedTaskRows(@Param("workerId") Long workerId,
+                                             @Param("beforeId") Long beforeId,
+                                             Pageable pageable);
+
+    @Query("SELECT a.task.id FROM Application a WHERE a.worker.id = :workerId")
+    Set<Long> findTaskIdsByWorkerId(@Param("workerId") Long workerId);
+
+    @Query("SELECT a FROM Application a JOIN FETCH a.worker WHERE a.task.id = :taskId ORDER BY a.id")
+    List<Application> findByTaskIdWithWorker(@Param("taskId") Long taskId);
+
+    // One round trip for a whole page of tasks; callers group by task id
+    @Query("SELECT a FROM Application a JOIN FETCH a.worker WHERE a.task.id IN :taskIds ORDER BY a.id")
+    List<Application> findByTaskIdInWithWorker(@Param("taskIds") Collection<Long> taskIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Application a SET a.status = :status, a.version = a.version + 1 WHERE a.id = :id")
+    int updateStatus(@Param("id") Long id, @Param("status") ApplicationStatus status);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Application a SET a.status = :status, a.version = a.version + 1 "
+            + "WHERE a.task.id = :taskId AND a.id <> :excludedId")
+    int updateStatusExcept(@Param("taskId") Long taskId,
+                           @Param("excludedId") Long excludedId,
+                           @Param("status") ApplicationStatus status);
+}
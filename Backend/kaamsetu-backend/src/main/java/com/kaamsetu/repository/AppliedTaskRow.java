@@ -0,0 +1,30 @@
+package com.kaamsetu.repository;
+
+import com.kaamsetu.enums.ApplicationStatus;
+import com.kaamsetu.enums.TaskStatus;
+import com.kaamsetu.enums.UrgencyLevel;
+
+import java.time.LocalDateTime;
+
+// One row per application of a worker: the task's summary columns plus the worker's own application
+public interface AppliedTaskRow {
+    Long getTaskId();
+    String getTitle();
+    String getDescription();
+    String getCategory();
+    Integer getBudget();
+    UrgencyLevel getUrgency();
+    TaskStatus getStatus();
+    Double getLat();
+    Double getLng();
+    String getAddress();
+    Long getCreatedById();
+    String getCreatedByName();
+    LocalDateTime getCreatedAt();
+    Long getAcceptedWorkerId();
+    Long getApplicationCount();
+    Long getApplicationId();
+    ApplicationStatus getApplicationStatus();
+    Integer getProposedBudget();
+    LocalDateTime getAppliedAt();
+}
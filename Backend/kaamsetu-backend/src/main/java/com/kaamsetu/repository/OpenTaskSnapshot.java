@@ -0,0 +1,14 @@
+package com.kaamsetu.repository;
+
+import com.kaamsetu.enums.UrgencyLevel;
+
+// Scalar view of a task for the in-memory recommendation index
+public interface OpenTaskSnapshot {
+    Long getId();
+    String getCategory();
+    Double getLat();
+    Double getLng();
+    Integer getBudget();
+    UrgencyLevel getUrgency();
+    Long getCreatedById();
+}
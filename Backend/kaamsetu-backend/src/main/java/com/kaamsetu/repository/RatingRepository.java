@@ -1,7 +1,9 @@
 package com.kaamsetu.repository;
 
 import com.kaamsetu.entity.Rating;
+import com.kaamsetu.entity.Task;
 import com.kaamsetu.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,8 +13,9 @@ import java.util.List;
 
 @Repository
 public interface RatingRepository extends JpaRepository<Rating, Long> {
-    List<Rating> findByGivenTo(User user);
+    boolean existsByTaskAndGivenBy(Task task, User givenBy);
 
-    @Query("SELECT AVG(r.stars) FROM Rating r WHERE r.givenTo = :user")
-    Double findAverageRatingByUser(@Param("user") User user);
-}
\ No newline at end of file
+    @Query("SELECT r FROM Rating r JOIN FETCH r.givenBy WHERE r.givenTo.id = :userId "
+            + "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Rating> findRecentByGivenTo(@Param("userId") Long userId, Pageable pageable);
+}
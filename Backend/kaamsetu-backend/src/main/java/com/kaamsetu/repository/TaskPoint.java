@@ -0,0 +1,8 @@
+package com.kaamsetu.repository;
+
+// Projection for nearby search: just enough to rank by distance before loading any task
+public interface TaskPoint {
+    Long getId();
+    Double getLat();
+    Double getLng();
+}
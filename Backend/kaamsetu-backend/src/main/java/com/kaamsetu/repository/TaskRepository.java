@@ -2,13 +2,87 @@ package com.kaamsetu.repository;
 
 import com.kaamsetu.entity.Task;
 import com.kaamsetu.entity.User;
+import com.kaamsetu.enums.TaskStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
-    List<Task> findAllByOrderByCreatedAtDesc();
+public interface TaskRepository extends JpaRepository<Task, Long>,
+        JpaSpecificationExecutor<Task>, TaskRepositoryCustom {
+    @EntityGraph(attributePaths = {"createdBy", "acceptedWorker"})
     List<Task> findByCreatedByOrderByCreatedAtDesc(User createdBy);
-}
\ No newline at end of file
+
+    @Query(TaskSummaryRow.SELECT + "WHERE t.id IN :ids")
+    List<TaskSummaryRow> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(TaskSummaryRow.SELECT + "WHERE t.id = :id")
+    Optional<TaskSummaryRow> findSummaryById(@Param("id") Long id);
+
+    @Query(TaskSummaryRow.SELECT + "WHERE cb.id = :userId ORDER BY t.createdAt DESC, t.id DESC")
+    List<TaskSummaryRow> findSummariesByCreatedById(@Param("userId") Long userId);
+
+    // Compare-and-set status transitions: only one concurrent caller can move a task out of `from`
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :to, t.updatedAt = :now, t.version = t.version + 1 "
+            + "WHERE t.id = :id AND t.status = :from")
+    int transitionStatus(@Param("id") Long id,
+                         @Param("from") TaskStatus from,
+                         @Param("to") TaskStatus to,
+                         @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :to, t.acceptedWorker = :worker, t.updatedAt = :now, "
+            + "t.version = t.version + 1 WHERE t.id = :id AND t.status = :from")
+    int transitionStatusWithWorker(@Param("id") Long id,
+                                   @Param("from") TaskStatus from,
+                                   @Param("to") TaskStatus to,
+                                   @Param("worker") User worker,
+                                   @Param("now") LocalDateTime now);
+
+    // Applications are part of the task representation, so a new one bumps the task's validators
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Task t SET t.updatedAt = :now, t.version = t.version + 1 WHERE t.id = :id")
+    int touch(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // Users embedded in the task body are the owner and the applicants; revisions only grow,
+    // so their sum changes whenever any of them does
+    @Query("SELECT t.version AS version, "
+            + "t.createdBy.revision + COALESCE((SELECT SUM(a.worker.revision) FROM Application a "
+            + "WHERE a.task.id = t.id), 0) AS userRevision "
+            + "FROM Task t WHERE t.id = :id")
+    Optional<TaskVersion> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT t.id AS id, t.category AS category, t.location.lat AS lat, t.location.lng AS lng, "
+            + "t.budget AS budget, t.urgency AS urgency, t.createdBy.id AS createdById "
+            + "FROM Task t WHERE t.status = :status")
+    List<OpenTaskSnapshot> findSnapshotsByStatus(@Param("status") TaskStatus status);
+
+    @Query("SELECT t.id AS id, t.category AS category, t.location.lat AS lat, t.location.lng AS lng, "
+            + "t.budget AS budget, t.urgency AS urgency, t.createdBy.id AS createdById "
+            + "FROM Task t WHERE t.id = :id AND t.status = :status")
+    Optional<OpenTaskSnapshot> findSnapshotByIdAndStatus(@Param("id") Long id,
+                                                         @Param("status") TaskStatus status);
+
+    // Grid cells narrow the scan via index; the bounding box trims cell edges. Scalars only,
+    // so a dense area costs three columns per candidate rather than a task and its owner
+    @Query("SELECT t.id AS id, t.location.lat AS lat, t.location.lng AS lng FROM Task t "
+            + "WHERE t.geoCell IN :cells AND t.status = :status "
+            + "AND t.location.lat BETWEEN :minLat AND :maxLat "
+            + "AND t.location.lng BETWEEN :minLng AND :maxLng")
+    List<TaskPoint> findPointsInBoundingBox(@Param("cells") Collection<Long> cells,
+                                            @Param("status") TaskStatus status,
+                                            @Param("minLat") double minLat,
+                                            @Param("maxLat") double maxLat,
+                                            @Param("minLng") double minLng,
+                                            @Param("maxLng") double maxLng);
+}
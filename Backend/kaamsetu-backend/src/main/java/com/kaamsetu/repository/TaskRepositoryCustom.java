@@ -0,0 +1,18 @@
+package com.kaamsetu.repository;
+
+import com.kaamsetu.entity.Task;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Returns at most {@code limit} tasks matching {@code spec}, newest first,
+     * ordered by (createdAt DESC, id DESC) so keyset cursors stay stable.
+     */
+    List<Task> findFeedPage(Specification<Task> spec, int limit);
+
+    /** Same page and order as {@link #findFeedPage}, as scalar summary rows in one query. */
+    List<TaskSummaryRow> findFeedSummaryPage(Specification<Task> spec, int limit);
+}
@@ -0,0 +1,76 @@
+package com.kaamsetu.repository;
+
+import com.kaamsetu.entity.Application;
+import com.kaamsetu.entity.Location;
+import com.kaamsetu.entity.Task;
+import com.kaamsetu.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Task> findFeedPage(Specification<Task> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+        root.fetch("createdBy", JoinType.INNER);
+        root.fetch("acceptedWorker", JoinType.LEFT);
+
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<TaskSummaryRow> findFeedSummaryPage(Specification<Task> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskSummaryRow> query = cb.createQuery(TaskSummaryRow.class);
+        Root<Task> root = query.from(Task.class);
+        Join<Task, User> createdBy = root.join("createdBy", JoinType.INNER);
+        Join<Task, User> acceptedWorker = root.join("acceptedWorker", JoinType.LEFT);
+        Path<Location> location = root.get("location");
+
+        Subquery<Long> applicationCount = query.subquery(Long.class);
+        Root<Application> application = applicationCount.from(Application.class);
+        applicationCount.select(cb.count(application)).where(cb.equal(application.get("task"), root));
+
+        // Same columns, in the same order, as TaskSummaryRow.SELECT
+        query.select(cb.construct(TaskSummaryRow.class,
+                root.get("id"), root.get("title"), root.get("description"), root.get("category"),
+                root.get("budget"), root.get("urgency"), root.get("status"),
+                location.get("lat"), location.get("lng"), location.get("address"),
+                createdBy.get("id"), createdBy.get("name"), root.get("createdAt"),
+                acceptedWorker.get("id"), applicationCount));
+
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
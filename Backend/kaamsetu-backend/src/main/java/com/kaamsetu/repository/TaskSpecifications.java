@@ -0,0 +1,38 @@
+package com.kaamsetu.repository;
+
+import com.kaamsetu.entity.Task;
+import com.kaamsetu.enums.TaskStatus;
+import com.kaamsetu.enums.UrgencyLevel;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> hasCategory(String category) {
+        return (root, query, cb) ->
+                cb.equal(cb.lower(root.get("category")), category.toLowerCase());
+    }
+
+    public static Specification<Task> hasUrgency(UrgencyLevel urgency) {
+        return (root, query, cb) -> cb.equal(root.get("urgency"), urgency);
+    }
+
+    public static Specification<Task> hasStatus(TaskStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    // Keyset condition: rows strictly after the cursor in (createdAt DESC, id DESC) order
+    public static Specification<Task> after(TaskCursor cursor) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.<LocalDateTime>get("createdAt"), cursor.getCreatedAt()),
+                cb.and(
+                        cb.equal(root.get("createdAt"), cursor.getCreatedAt()),
+                        cb.lessThan(root.<Long>get("id"), cursor.getId())
+                )
+        );
+    }
+}
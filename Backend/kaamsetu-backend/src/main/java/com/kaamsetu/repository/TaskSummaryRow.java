@@ -0,0 +1,36 @@
+package com.kaamsetu.repository;
+
+import com.kaamsetu.enums.TaskStatus;
+import com.kaamsetu.enums.UrgencyLevel;
+
+import java.time.LocalDateTime;
+
+/**
+ * Scalar view of a task for list endpoints: its own columns, the owner's id and name,
+ * the accepted worker's id and the application count, read in the list query itself.
+ * No {@code Task} or {@code User} entity is loaded, so users' skills are never fetched.
+ */
+public record TaskSummaryRow(
+        Long id,
+        String title,
+        String description,
+        String category,
+        Integer budget,
+        UrgencyLevel urgency,
+        TaskStatus status,
+        Double lat,
+        Double lng,
+        String address,
+        Long createdById,
+        String createdByName,
+        LocalDateTime createdAt,
+        Long acceptedWorkerId,
+        Long applicationCount) {
+
+    // Select list and joins shared by the repository queries; must match the component order
+    static final String SELECT = "SELECT new com.kaamsetu.repository.TaskSummaryRow("
+            + "t.id, t.title, t.description, t.category, t.budget, t.urgency, t.status, "
+            + "t.location.lat, t.location.lng, t.location.address, cb.id, cb.name, t.createdAt, aw.id, "
+            + "(SELECT COUNT(a) FROM Application a WHERE a.task = t)) "
+            + "FROM Task t JOIN t.createdBy cb LEFT JOIN t.acceptedWorker aw ";
+}
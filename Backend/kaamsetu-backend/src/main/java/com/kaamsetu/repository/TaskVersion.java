@@ -0,0 +1,8 @@
+package com.kaamsetu.repository;
+
+// Projection for conditional GETs: validators only, no entity or association loading
+public interface TaskVersion {
+    Long getVersion();
+    // Sum of the revisions of every user whose details the task body embeds
+    Long getUserRevision();
+}
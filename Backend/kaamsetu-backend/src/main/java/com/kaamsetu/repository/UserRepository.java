@@ -2,12 +2,30 @@ package com.kaamsetu.repository;
 
 import com.kaamsetu.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
     Optional<User> findByPhone(String phone);
     boolean existsByPhone(String phone);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password, u.revision = u.revision + 1 WHERE u.id = :id")
+    int updatePassword(@Param("id") Long userId, @Param("password") String password);
+
+    @Query("SELECT u.revision FROM User u WHERE u.id = :id")
+    Optional<Long> findRevisionById(@Param("id") Long id);
+
+    // Incremental average: SET expressions see pre-update values, so no AVG() over ratings is needed
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.ratingSum = u.ratingSum + :stars, u.ratingCount = u.ratingCount + 1, "
+            + "u.revision = u.revision + 1, u.rating = cast(u.ratingSum + :stars as Double) / (u.ratingCount + 1) WHERE u.id = :id")
+    int addRating(@Param("id") Long userId, @Param("stars") int stars);
 }
\ No newline at end of file
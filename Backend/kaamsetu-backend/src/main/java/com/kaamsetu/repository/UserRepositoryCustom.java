@@ -0,0 +1,12 @@
+package com.kaamsetu.repository;
+
+import com.kaamsetu.enums.UserCounter;
+
+public interface UserRepositoryCustom {
+
+    /**
+     * Atomically adds {@code delta} to a counter column in the database
+     * ({@code SET col = col + ?}) without loading or rewriting the user row.
+     */
+    int incrementCounter(Long userId, UserCounter counter, int delta);
+}
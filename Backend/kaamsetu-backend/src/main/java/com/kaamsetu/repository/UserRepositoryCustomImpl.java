@@ -0,0 +1,26 @@
+package com.kaamsetu.repository;
+
+import com.kaamsetu.enums.UserCounter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int incrementCounter(Long userId, UserCounter counter, int delta) {
+        // Field name comes from the enum, never from user input
+        String field = "u." + counter.getField();
+        return entityManager.createQuery(
+                        "UPDATE User u SET " + field + " = COALESCE(" + field + ", 0) + :delta, "
+                                + "u.revision = u.revision + 1 "
+                                + "WHERE u.id = :id")
+                .setParameter("delta", delta)
+                .setParameter("id", userId)
+                .executeUpdate();
+    }
+}
@@ -8,6 +8,7 @@ import com.kaamsetu.enums.ApplicationStatus;
 import com.kaamsetu.enums.Role;
 import com.kaamsetu.enums.TaskStatus;
 import com.kaamsetu.enums.UrgencyLevel;
+import com.kaamsetu.enums.UserCounter;
 import com.kaamsetu.repository.ApplicationRepository;
 import com.kaamsetu.repository.TaskRepository;
 import com.kaamsetu.repository.UserRepository;
@@ -41,6 +42,7 @@ public class DataSeeder implements CommandLineRunner {
         log.info("Seeding database with demo data...");
 
         // ─── Users ───
+        // Ratings carry the sum and count behind the average, as UserRepository.addRating expects
 
         User worker1 = userRepository.save(User.builder()
                 .name("Rajesh Kumar")
@@ -49,6 +51,8 @@ public class DataSeeder implements CommandLineRunner {
                 .role(Role.WORKER)
                 .skills(List.of("plumbing", "electrical"))
                 .rating(4.5)
+                .ratingSum(90L)
+                .ratingCount(20)
                 .tasksCompleted(23)
                 .latitude(28.6139)
                 .longitude(77.2090)
@@ -61,6 +65,8 @@ public class DataSeeder implements CommandLineRunner {
                 .role(Role.SEEKER)
                 .skills(List.of())
                 .rating(4.8)
+                .ratingSum(48L)
+                .ratingCount(10)
                 .tasksCompleted(0)
                 .latitude(28.6129)
                 .longitude(77.2295)
@@ -73,6 +79,8 @@ public class DataSeeder implements CommandLineRunner {
                 .role(Role.WORKER)
                 .skills(List.of("electrical", "tech"))
                 .rating(4.2)
+                .ratingSum(63L)
+                .ratingCount(15)
                 .tasksCompleted(15)
                 .latitude(28.6339)
                 .longitude(77.2190)
@@ -85,6 +93,8 @@ public class DataSeeder implements CommandLineRunner {
                 .role(Role.SEEKER)
                 .skills(List.of())
                 .rating(4.9)
+                .ratingSum(49L)
+                .ratingCount(10)
                 .tasksCompleted(0)
                 .latitude(28.6239)
                 .longitude(77.1990)
@@ -97,6 +107,8 @@ public class DataSeeder implements CommandLineRunner {
                 .role(Role.WORKER)
                 .skills(List.of("shifting", "cleaning", "gardening"))
                 .rating(4.0)
+                .ratingSum(100L)
+                .ratingCount(25)
                 .tasksCompleted(31)
                 .latitude(28.6039)
                 .longitude(77.2390)
@@ -104,7 +116,7 @@ public class DataSeeder implements CommandLineRunner {
 
         // ─── Tasks ───
 
-        Task task1 = taskRepository.save(Task.builder()
+        Task task1 = post(Task.builder()
                 .title("Kitchen tap leaking badly")
                 .description("My kitchen tap has been leaking for 2 days. Need an experienced plumber to fix it. Tools will be provided if needed.")
                 .category("plumbing")
@@ -115,7 +127,7 @@ public class DataSeeder implements CommandLineRunner {
                 .createdBy(seeker1)
                 .build());
 
-        Task task2 = taskRepository.save(Task.builder()
+        Task task2 = post(Task.builder()
                 .title("Medicine pickup from Apollo Pharmacy")
                 .description("Need someone to pick up my mother's medicines from Apollo Pharmacy in Lajpat Nagar and deliver to my home.")
                 .category("medical")
@@ -126,7 +138,7 @@ public class DataSeeder implements CommandLineRunner {
                 .createdBy(seeker2)
                 .build());
 
-        Task task3 = taskRepository.save(Task.builder()
+        Task task3 = post(Task.builder()
                 .title("House deep cleaning - 2BHK")
                 .description("Need thorough cleaning of my 2BHK flat. Including kitchen, bathrooms, balcony.")
                 .category("cleaning")
@@ -137,7 +149,7 @@ public class DataSeeder implements CommandLineRunner {
                 .createdBy(seeker1)
                 .build());
 
-        Task task4 = taskRepository.save(Task.builder()
+        Task task4 = post(Task.builder()
                 .title("Ceiling fan not working")
                 .description("Living room ceiling fan stopped working suddenly. Making a humming noise.")
                 .category("electrical")
@@ -148,7 +160,7 @@ public class DataSeeder implements CommandLineRunner {
                 .createdBy(seeker2)
                 .build());
 
-        Task task5 = taskRepository.save(Task.builder()
+        Task task5 = post(Task.builder()
                 .title("Help moving sofa to 3rd floor")
                 .description("Need 2-3 people to help move a large sofa from ground floor to 3rd floor. No lift.")
                 .category("shifting")
@@ -159,7 +171,7 @@ public class DataSeeder implements CommandLineRunner {
                 .createdBy(seeker1)
                 .build());
 
-        Task task6 = taskRepository.save(Task.builder()
+        Task task6 = post(Task.builder()
                 .title("Math tutor for class 10 board exam")
                 .description("Looking for a math tutor for my son. Class 10 CBSE. 2 hours daily for 2 weeks.")
                 .category("teaching")
@@ -170,7 +182,7 @@ public class DataSeeder implements CommandLineRunner {
                 .createdBy(seeker2)
                 .build());
 
-        Task task7 = taskRepository.save(Task.builder()
+        Task task7 = post(Task.builder()
                 .title("Laptop screen flickering")
                 .description("HP laptop screen is flickering badly. Sometimes goes black. Need diagnosis and fix.")
                 .category("tech")
@@ -183,7 +195,7 @@ public class DataSeeder implements CommandLineRunner {
 
         // ─── Applications ───
 
-        applicationRepository.save(Application.builder()
+        apply(Application.builder()
                 .task(task1)
                 .worker(worker1)
                 .message("I can fix this in 30 minutes. Have 5 years experience in plumbing.")
@@ -191,7 +203,7 @@ public class DataSeeder implements CommandLineRunner {
                 .status(ApplicationStatus.PENDING)
                 .build());
 
-        applicationRepository.save(Application.builder()
+        apply(Application.builder()
                 .task(task3)
                 .worker(worker3)
                 .message("I do professional cleaning. Can come tomorrow morning.")
@@ -199,7 +211,7 @@ public class DataSeeder implements CommandLineRunner {
                 .status(ApplicationStatus.PENDING)
                 .build());
 
-        applicationRepository.save(Application.builder()
+        apply(Application.builder()
                 .task(task7)
                 .worker(worker2)
                 .message("I repair laptops regularly. Could be a display cable issue.")
@@ -212,4 +224,17 @@ public class DataSeeder implements CommandLineRunner {
         log.info("  Worker  → phone: 9876543210  password: password");
         log.info("  Seeker  → phone: 9876543211  password: password");
     }
+
+    // Saves through the same counter updates TaskService applies, so profile counts start right
+    private Task post(Task task) {
+        Task saved = taskRepository.save(task);
+        userRepository.incrementCounter(task.getCreatedBy().getId(), UserCounter.TASKS_POSTED, 1);
+        return saved;
+    }
+
+    private Application apply(Application application) {
+        Application saved = applicationRepository.save(application);
+        userRepository.incrementCounter(application.getWorker().getId(), UserCounter.APPLICATIONS_SENT, 1);
+        return saved;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,440 @@
+package com.kaamsetu.seeder;
+
+import com.kaamsetu.enums.ApplicationStatus;
+import com.kaamsetu.enums.Role;
+import com.kaamsetu.enums.TaskStatus;
+import com.kaamsetu.enums.UrgencyLevel;
+import com.kaamsetu.util.GeoGrid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Load-test data generator: N users, M tasks and on average K applications
+ * per task, written with JDBC batch inserts (one transaction per batch).
+ * Only active with the "loadtest" profile, so normal startup is unaffected.
+ * Assumes no other writers while it runs, since generated ids are read back
+ * in insertion order.
+ */
+@Component
+@Profile("loadtest")
+@Order(100)
+@Slf4j
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final String PHONE_PREFIX = "6";
+
+    private static final String[] CATEGORIES = {
+            "cleaning", "plumbing", "electrical", "shifting", "tech",
+            "teaching", "medical", "gardening", "cooking", "delivery"
+    };
+    // Relative popularity of each category above
+    private static final int[] CATEGORY_WEIGHTS = {20, 16, 14, 10, 10, 8, 7, 5, 5, 5};
+    private static final int[] CATEGORY_BASE_BUDGET = {600, 350, 400, 800, 500, 250, 150, 300, 400, 120};
+
+    private static final String[][] TITLES = {
+            {"House deep cleaning", "Kitchen safai needed", "Bathroom cleaning", "Sofa shampoo"},
+            {"Tap leaking", "Pipe burst in bathroom", "Paani tank overflow", "Geyser fitting"},
+            {"Ceiling fan not working", "Bijli wiring check", "Inverter installation", "Switch board repair"},
+            {"Help moving sofa", "Shift 1BHK luggage", "Almirah to 3rd floor", "Office shifting"},
+            {"Laptop screen flickering", "WiFi router setup", "Phone data transfer", "Printer not working"},
+            {"Math tutor class 10", "English speaking practice", "Science tuition", "Computer basics"},
+            {"Medicine pickup", "Dawai delivery", "Hospital attendant", "BP check at home"},
+            {"Garden safai", "Plant watering while away", "Lawn mowing", "Pot repotting"},
+            {"Cook for party of 10", "Roti maker needed", "Tiffin for a week", "Festival sweets"},
+            {"Parcel pickup", "Grocery delivery", "Document drop", "Gas cylinder pickup"}
+    };
+
+    private static final String[] CITIES = {"Delhi", "Mumbai", "Bengaluru", "Kolkata", "Hyderabad", "Jaipur"};
+    private static final double[][] CITY_CENTERS = {
+            {28.6139, 77.2090}, {19.0760, 72.8777}, {12.9716, 77.5946},
+            {22.5726, 88.3639}, {17.3850, 78.4867}, {26.9124, 75.7873}
+    };
+    private static final int[] CITY_WEIGHTS = {30, 25, 20, 10, 10, 5};
+    private static final double CITY_SPREAD_DEGREES = 0.08;   // ~9 km standard deviation
+
+    private static final int HISTORY_DAYS = 90;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BCryptPasswordEncoder passwordEncoder;
+
+    @Value("${app.seed.users:1000}")
+    private int userCount;
+
+    @Value("${app.seed.tasks:10000}")
+    private int taskCount;
+
+    @Value("${app.seed.applications-per-task:3}")
+    private int applicationsPerTask;
+
+    @Value("${app.seed.batch-size:1000}")
+    private int batchSize;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  BCryptPasswordEncoder passwordEncoder) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    @Override
+    public void run(String... args) {
+        generate(userCount, taskCount, applicationsPerTask, batchSize);
+    }
+
+    public void generate(int users, int tasks, int avgApplications, int batch) {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE phone = ?", Integer.class, phone(0));
+        if (existing != null && existing > 0) {
+            log.info("Synthetic data already present. Skipping generation.");
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+
+        log.info("Generating {} users, {} tasks, ~{} applications per task...",
+                users, tasks, avgApplications);
+
+        long[] userIds = insertUsers(users, batch, random, now);
+        long[] seekerIds = filterByRole(userIds, Role.SEEKER);
+        long[] workerIds = filterByRole(userIds, Role.WORKER);
+
+        TaskPlan plan = new TaskPlan(tasks, now);
+        long[] taskIds = insertTasks(plan, seekerIds, workerIds, avgApplications, batch, random, now);
+        long applications = insertApplications(plan, taskIds, workerIds, batch, random);
+        recountUserCounters(userIds);
+
+        log.info("Synthetic data generated in {} ms: {} users, {} tasks, {} applications",
+                System.currentTimeMillis() - start, userIds.length, taskIds.length, applications);
+    }
+
+    // ─── Users ───
+
+    private long[] insertUsers(int users, int batch, Random random, LocalDateTime now) {
+        String passwordHash = passwordEncoder.encode("password");
+        long maxIdBefore = maxId("users");
+
+        List<Object[]> rows = new ArrayList<>(batch);
+        for (int i = 0; i < users; i++) {
+            double[] point = randomPoint(random);
+            // Sum and count behind the average, as UserRepository.addRating maintains them
+            int ratingCount = random.nextInt(41);
+            long ratingSum = Math.round(ratingCount * (3.0 + random.nextInt(21) / 10.0));
+            rows.add(new Object[]{
+                    "Synthetic User " + i,
+                    phone(i),
+                    passwordHash,
+                    roleOf(i).name(),
+                    ratingCount > 0 ? (double) ratingSum / ratingCount : 0.0,
+                    ratingSum,
+                    ratingCount,
+                    roleOf(i) == Role.WORKER ? random.nextInt(50) : 0,
+                    point[0],
+                    point[1],
+                    Timestamp.valueOf(randomPast(random, now))
+            });
+            if (rows.size() == batch || i == users - 1) {
+                flush("INSERT INTO users (name, phone, password, role, rating, rating_sum, rating_count, "
+                        + "tasks_completed, latitude, longitude, created_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+            }
+        }
+
+        long[] ids = idsAfter("users", maxIdBefore);
+        insertSkills(ids, batch, random);
+        return ids;
+    }
+
+    private void insertSkills(long[] userIds, int batch, Random random) {
+        List<Object[]> rows = new ArrayList<>(batch);
+        for (int i = 0; i < userIds.length; i++) {
+            if (roleOf(i) != Role.WORKER) {
+                continue;
+            }
+            int first = weightedIndex(CATEGORY_WEIGHTS, random);
+            int skills = 1 + random.nextInt(3);
+            for (int s = 0; s < skills; s++) {
+                rows.add(new Object[]{userIds[i], CATEGORIES[(first + s) % CATEGORIES.length]});
+            }
+            if (rows.size() >= batch) {
+                flush("INSERT INTO user_skills (user_id, skill) VALUES (?, ?)", rows);
+            }
+        }
+        flush("INSERT INTO user_skills (user_id, skill) VALUES (?, ?)", rows);
+    }
+
+    // ─── Tasks ───
+
+    private long[] insertTasks(TaskPlan plan, long[] seekerIds, long[] workerIds, int avgApplications,
+                               int batch, Random random, LocalDateTime now) {
+        long maxIdBefore = maxId("tasks");
+
+        List<Object[]> rows = new ArrayList<>(batch);
+        for (int i = 0; i < plan.size(); i++) {
+            int category = weightedIndex(CATEGORY_WEIGHTS, random);
+            TaskStatus status = randomStatus(random);
+            int applicants = workerIds.length == 0 ? 0
+                    : Math.min(workerIds.length, random.nextInt(2 * avgApplications + 1));
+            if (status != TaskStatus.OPEN && status != TaskStatus.CANCELLED && applicants == 0) {
+                applicants = workerIds.length == 0 ? 0 : 1;
+            }
+            if (applicants == 0 && status != TaskStatus.CANCELLED) {
+                status = TaskStatus.OPEN;
+            }
+
+            int budget = (int) Math.max(50, CATEGORY_BASE_BUDGET[category]
+                    * Math.exp(random.nextGaussian() * 0.4));
+            int city = weightedIndex(CITY_WEIGHTS, random);
+            double[] point = randomPoint(random, city);
+            int minutesAgo = randomMinutesAgo(random);
+            LocalDateTime createdAt = now.minusMinutes(minutesAgo);
+            boolean assigned = status == TaskStatus.ACCEPTED || status == TaskStatus.COMPLETED;
+
+            plan.record(i, status, applicants, budget, minutesAgo);
+
+            rows.add(new Object[]{
+                    TITLES[category][random.nextInt(TITLES[category].length)],
+                    "Synthetic " + CATEGORIES[category] + " task " + i + " near " + CITIES[city],
+                    CATEGORIES[category],
+                    budget,
+                    randomUrgency(random).name(),
+                    status.name(),
+                    point[0],
+                    point[1],
+                    CITIES[city],
+                    GeoGrid.cellOf(point[0], point[1]),
+                    seekerIds[random.nextInt(seekerIds.length)],
+                    assigned ? workerIds[plan.applicantIndex(i, 0, workerIds.length)] : null,
+                    Timestamp.valueOf(createdAt),
+                    Timestamp.valueOf(createdAt)
+            });
+            if (rows.size() == batch || i == plan.size() - 1) {
+                flush("INSERT INTO tasks (title, description, category, budget, urgency, status, "
+                        + "lat, lng, address, geo_cell, created_by, accepted_worker, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+            }
+        }
+        return idsAfter("tasks", maxIdBefore);
+    }
+
+    // ─── Applications ───
+
+    private long insertApplications(TaskPlan plan, long[] taskIds, long[] workerIds,
+                                    int batch, Random random) {
+        long total = 0;
+        List<Object[]> rows = new ArrayList<>(batch);
+        for (int i = 0; i < taskIds.length; i++) {
+            TaskStatus status = plan.status(i);
+            boolean assigned = status == TaskStatus.ACCEPTED || status == TaskStatus.COMPLETED;
+
+            for (int j = 0; j < plan.applicants(i); j++) {
+                ApplicationStatus appStatus = !assigned ? ApplicationStatus.PENDING
+                        : j == 0 ? ApplicationStatus.ACCEPTED : ApplicationStatus.REJECTED;
+                rows.add(new Object[]{
+                        taskIds[i],
+                        workerIds[plan.applicantIndex(i, j, workerIds.length)],
+                        random.nextInt(3) == 0 ? "I can do this today." : null,
+                        (int) (plan.budget(i) * (0.8 + random.nextDouble() * 0.4)),
+                        appStatus.name(),
+                        Timestamp.valueOf(plan.appliedAt(i, 5 + random.nextInt(2880)))
+                });
+                total++;
+                if (rows.size() >= batch) {
+                    flushApplications(rows);
+                }
+            }
+        }
+        flushApplications(rows);
+        return total;
+    }
+
+    private void flushApplications(List<Object[]> rows) {
+        flush("INSERT INTO applications (task_id, worker_id, message, proposed_budget, status, applied_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    // Counters are normally maintained incrementally; derive them once for bulk-loaded rows.
+    // Only the id range inserted by this run, so existing users are never touched.
+    private void recountUserCounters(long[] userIds) {
+        if (userIds.length == 0) {
+            return;
+        }
+        jdbcTemplate.update("UPDATE users SET "
+                        + "tasks_posted = (SELECT COUNT(*) FROM tasks t WHERE t.created_by = users.id), "
+                        + "applications_sent = (SELECT COUNT(*) FROM applications a WHERE a.worker_id = users.id) "
+                        + "WHERE id BETWEEN ? AND ?",
+                userIds[0], userIds[userIds.length - 1]);
+    }
+
+    // ─── Helpers ───
+
+    private void flush(String sql, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, rows));
+        rows.clear();
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return max != null ? max : 0;
+    }
+
+    private long[] idsAfter(String table, long maxIdBefore) {
+        return jdbcTemplate.queryForList(
+                        "SELECT id FROM " + table + " WHERE id > ? ORDER BY id", Long.class, maxIdBefore)
+                .stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    private long[] filterByRole(long[] userIds, Role role) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < userIds.length; i++) {
+            if (roleOf(i) == role) {
+                ids.add(userIds[i]);
+            }
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    // Two workers for every seeker
+    private static Role roleOf(int userIndex) {
+        return userIndex % 3 == 0 ? Role.SEEKER : Role.WORKER;
+    }
+
+    private static String phone(int userIndex) {
+        return PHONE_PREFIX + String.format("%09d", userIndex);
+    }
+
+    private static TaskStatus randomStatus(Random random) {
+        int roll = random.nextInt(100);
+        if (roll < 70) {
+            return TaskStatus.OPEN;
+        }
+        if (roll < 85) {
+            return TaskStatus.ACCEPTED;
+        }
+        if (roll < 97) {
+            return TaskStatus.COMPLETED;
+        }
+        return TaskStatus.CANCELLED;
+    }
+
+    private static UrgencyLevel randomUrgency(Random random) {
+        int roll = random.nextInt(100);
+        if (roll < 70) {
+            return UrgencyLevel.NORMAL;
+        }
+        if (roll < 92) {
+            return UrgencyLevel.URGENT;
+        }
+        return UrgencyLevel.EMERGENCY;
+    }
+
+    private static double[] randomPoint(Random random) {
+        return randomPoint(random, weightedIndex(CITY_WEIGHTS, random));
+    }
+
+    private static double[] randomPoint(Random random, int city) {
+        return new double[]{
+                CITY_CENTERS[city][0] + random.nextGaussian() * CITY_SPREAD_DEGREES,
+                CITY_CENTERS[city][1] + random.nextGaussian() * CITY_SPREAD_DEGREES
+        };
+    }
+
+    private static LocalDateTime randomPast(Random random, LocalDateTime now) {
+        return now.minusMinutes(randomMinutesAgo(random));
+    }
+
+    private static int randomMinutesAgo(Random random) {
+        return random.nextInt(HISTORY_DAYS * 24 * 60);
+    }
+
+    private static int weightedIndex(int[] weights, Random random) {
+        int total = 0;
+        for (int w : weights) {
+            total += w;
+        }
+        int roll = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    /**
+     * Compact per-task state kept between the task and application passes, so
+     * application rows agree with the task's status and accepted worker.
+     */
+    private static class TaskPlan {
+
+        private final LocalDateTime now;
+        private final byte[] statuses;
+        private final short[] applicants;
+        private final int[] budgets;
+        private final int[] minutesAgo;
+
+        TaskPlan(int size, LocalDateTime now) {
+            this.now = now;
+            statuses = new byte[size];
+            applicants = new short[size];
+            budgets = new int[size];
+            minutesAgo = new int[size];
+        }
+
+        int size() {
+            return statuses.length;
+        }
+
+        void record(int task, TaskStatus status, int applicantCount, int budget, int createdMinutesAgo) {
+            statuses[task] = (byte) status.ordinal();
+            applicants[task] = (short) applicantCount;
+            budgets[task] = budget;
+            minutesAgo[task] = createdMinutesAgo;
+        }
+
+        TaskStatus status(int task) {
+            return TaskStatus.values()[statuses[task]];
+        }
+
+        int applicants(int task) {
+            return applicants[task];
+        }
+
+        int budget(int task) {
+            return budgets[task];
+        }
+
+        // Some time after the task was posted, but never in the future
+        LocalDateTime appliedAt(int task, int delayMinutes) {
+            return now.minusMinutes(Math.max(0, minutesAgo[task] - delayMinutes));
+        }
+
+        // Consecutive workers from a per-task offset: distinct for j < workerCount
+        int applicantIndex(int task, int j, int workerCount) {
+            return (int) ((task * 7919L + j) % workerCount);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.kaamsetu.service;
 
 import com.kaamsetu.config.JwtService;
+import com.kaamsetu.config.PasswordHasher;
 import com.kaamsetu.dto.AuthResponse;
 import com.kaamsetu.dto.LoginRequest;
 import com.kaamsetu.dto.RegisterRequest;
@@ -11,7 +12,7 @@ import com.kaamsetu.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -19,7 +20,7 @@ import org.springframework.stereotype.Service;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
 
@@ -38,7 +39,7 @@ public class AuthService {
         User user = User.builder()
                 .name(request.getName())
                 .phone(request.getPhone())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHasher.encode(request.getPassword()))
                 .role(role)
                 .skills(request.getSkills() != null ? request.getSkills() : java.util.List.of())
                 .build();
@@ -50,12 +51,12 @@ public class AuthService {
     }
 
     public AuthResponse login(LoginRequest request) {
-        authenticationManager.authenticate(
+        Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(request.getPhone(), request.getPassword())
         );
 
-        User user = userRepository.findByPhone(request.getPhone())
-                .orElseThrow(() -> new BadRequestException("User not found"));
+        // The provider already loaded the user; no second lookup by phone
+        User user = (User) authentication.getPrincipal();
 
         String token = jwtService.generateToken(user);
 
@@ -72,6 +73,8 @@ public class AuthService {
                 .skills(user.getSkills())
                 .rating(user.getRating())
                 .tasksCompleted(user.getTasksCompleted())
+                .tasksPosted(user.getTasksPosted())
+                .applicationsSent(user.getApplicationsSent())
                 .createdAt(user.getCreatedAt() != null ? user.getCreatedAt().toString() : null)
                 .build();
     }
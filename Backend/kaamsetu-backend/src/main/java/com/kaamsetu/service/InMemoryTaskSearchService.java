@@ -0,0 +1,128 @@
+package com.kaamsetu.service;
+
+import com.kaamsetu.entity.Task;
+import com.kaamsetu.repository.TaskRepository;
+import com.kaamsetu.util.SearchTokenizer;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+
+/**
+ * Inverted index (term → task id → weight) for databases without tsvector
+ * support such as the H2 test profile. The sorted term map makes prefix
+ * lookups a range scan, mirroring the {@code term:*} behaviour in PostgreSQL.
+ * Feed filtering does not go through the index: the same term rules are applied
+ * in SQL, so the feed never ships a list of matching ids to the database.
+ */
+@Service
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "memory")
+@RequiredArgsConstructor
+@Slf4j
+public class InMemoryTaskSearchService implements TaskSearchService {
+
+    private static final int TITLE_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    // A term matches where a token starts: at the beginning or after a SearchTokenizer separator
+    private static final String TOKEN_START = "(^|[^\\p{L}\\p{M}\\p{N}])";
+
+    private final TaskRepository taskRepository;
+
+    private final ConcurrentNavigableMap<String, Map<Long, Integer>> postings = new ConcurrentSkipListMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        postings.clear();
+        List<Task> tasks = taskRepository.findAll();
+        tasks.forEach(this::index);
+        log.info("Indexed {} tasks for in-memory search", tasks.size());
+    }
+
+    @Override
+    public void index(Task task) {
+        Map<String, Integer> weights = new HashMap<>();
+        SearchTokenizer.tokenize(task.getDescription())
+                .forEach(term -> weights.merge(term, DESCRIPTION_WEIGHT, Math::max));
+        SearchTokenizer.tokenize(task.getTitle())
+                .forEach(term -> weights.merge(term, TITLE_WEIGHT, Math::max));
+
+        weights.forEach((term, weight) -> postings
+                .computeIfAbsent(term, t -> new ConcurrentHashMap<>())
+                .put(task.getId(), weight));
+    }
+
+    @Override
+    public List<Long> search(String query, int limit) {
+        List<String> terms = SearchTokenizer.tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Integer> scores = null;
+        for (String term : terms) {
+            Map<Long, Integer> termScores = prefixMatches(term);
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                // Every term must match: keep the intersection, summing scores
+                scores.keySet().retainAll(termScores.keySet());
+                scores.replaceAll((id, score) -> score + termScores.get(id));
+            }
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Specification<Task> matching(String query) {
+        List<String> terms = SearchTokenizer.tokenize(query);
+        return (root, criteria, cb) -> {
+            if (terms.isEmpty()) {
+                return cb.disjunction();
+            }
+            // Terms contain only letters, marks and digits, so they are safe in a pattern
+            Predicate[] allTerms = terms.stream()
+                    .map(term -> TOKEN_START + term)
+                    .map(pattern -> cb.or(
+                            regexpLike(cb, root.get("title"), pattern),
+                            regexpLike(cb, root.get("description"), pattern)))
+                    .toArray(Predicate[]::new);
+            return cb.and(allTerms);
+        };
+    }
+
+    private static Predicate regexpLike(CriteriaBuilder cb, Expression<String> column, String pattern) {
+        return cb.isTrue(cb.function("regexp_like", Boolean.class, cb.lower(column), cb.literal(pattern)));
+    }
+
+    private Map<Long, Integer> prefixMatches(String prefix) {
+        Map<Long, Integer> matches = new HashMap<>();
+        postings.subMap(prefix, true, prefix + Character.MAX_VALUE, true)
+                .values()
+                .forEach(ids -> ids.forEach((id, weight) -> matches.merge(id, weight, Math::max)));
+        return matches;
+    }
+}
@@ -0,0 +1,228 @@
+package com.kaamsetu.service;
+
+import com.kaamsetu.enums.TaskStatus;
+import com.kaamsetu.enums.UrgencyLevel;
+import com.kaamsetu.event.TaskChangedEvent;
+import com.kaamsetu.repository.OpenTaskSnapshot;
+import com.kaamsetu.repository.TaskRepository;
+import com.kaamsetu.util.GeoGrid;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory index of open tasks (category → task ids) kept current from
+ * {@link TaskChangedEvent}s, so recommendations rank open tasks for a worker
+ * without touching the tasks table. Events only come from this instance, so the
+ * index is also rebuilt periodically and callers evict entries they find closed.
+ */
+@Component
+@Slf4j
+public class OpenTaskIndex {
+
+    // Score weights; components are each normalized to [0, 1] and the weights sum to 1.
+    // A skill match outweighs any single other signal but not all of them together.
+    private static final double SKILL_WEIGHT = 0.4;
+    private static final double DISTANCE_WEIGHT = 0.35;
+    private static final double URGENCY_WEIGHT = 0.15;
+    private static final double BUDGET_WEIGHT = 0.1;
+
+    // Distance at which the distance score halves, and beyond which tasks are dropped
+    private static final double DISTANCE_SCALE_KM = 5;
+    private static final double MAX_DISTANCE_KM = 50;
+    // Budget (₹) scoring ~1.0; log scale so large budgets do not drown out distance
+    private static final double BUDGET_SCALE = 5000;
+
+    // Weakest match first, as the heap needs it; the newer task wins a tie
+    private static final Comparator<Match> BY_SCORE =
+            Comparator.comparingDouble(Match::score).thenComparing(Match::taskId);
+
+    private final TaskRepository taskRepository;
+    private final Duration rebuildInterval;
+    private final ScheduledExecutorService rebuilder = Executors.newSingleThreadScheduledExecutor();
+
+    // Swapped whole on rebuild so readers never see a half-built index
+    private volatile Index index = new Index();
+
+    public OpenTaskIndex(TaskRepository taskRepository,
+                         @Value("${app.recommendations.rebuild-interval:5m}") Duration rebuildInterval) {
+        this.taskRepository = taskRepository;
+        this.rebuildInterval = rebuildInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+        if (!rebuildInterval.isZero()) {
+            rebuilder.scheduleWithFixedDelay(this::rebuildQuietly,
+                    rebuildInterval.toMillis(), rebuildInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Reloads every open task. Events applied to the old index while this runs may be
+     * missed; created tasks then appear at the next rebuild, closed ones are evicted on read.
+     */
+    public void rebuild() {
+        Index fresh = new Index();
+        List<OpenTaskSnapshot> snapshots = taskRepository.findSnapshotsByStatus(TaskStatus.OPEN);
+        snapshots.forEach(fresh::add);
+        index = fresh;
+        log.debug("Indexed {} open tasks for recommendations", snapshots.size());
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Could not rebuild open task index, keeping the previous one", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED -> taskRepository.findSnapshotByIdAndStatus(event.getTaskId(), TaskStatus.OPEN)
+                    .ifPresent(snapshot -> index.add(snapshot));
+            case ACCEPTED, COMPLETED -> index.remove(event.getTaskId());
+            default -> {
+                // Applications do not change what is recommendable
+            }
+        }
+    }
+
+    public int size() {
+        return index.openTasks.size();
+    }
+
+    /** Drops tasks a caller found no longer open, e.g. closed through another instance. */
+    public void evict(Collection<Long> taskIds) {
+        Index current = index;
+        taskIds.forEach(current::remove);
+    }
+
+    /**
+     * Top {@code limit} open tasks for a worker, from every category, scored by skill
+     * overlap, distance, urgency and budget. A worker with no skills, or none matching an
+     * open task, has nothing for the skill term to tell apart, so those are ranked by
+     * distance alone.
+     */
+    public List<Match> recommend(Collection<String> skills, Long workerId, Set<Long> excludedTaskIds,
+                                 Double lat, Double lng, int limit) {
+        Index current = index;
+        Set<String> skillKeys = new HashSet<>();
+        if (skills != null) {
+            skills.forEach(skill -> skillKeys.add(key(skill)));
+        }
+        boolean anySkillMatches = skillKeys.stream()
+                .map(current.byCategory::get)
+                .anyMatch(ids -> ids != null && !ids.isEmpty());
+        boolean hasLocation = lat != null && lng != null;
+
+        // Min-heap of the best `limit` matches seen so far
+        PriorityQueue<Match> top = new PriorityQueue<>(BY_SCORE);
+        for (Entry task : current.openTasks.values()) {
+            Long id = task.id();
+            if (excludedTaskIds.contains(id) || task.createdById().equals(workerId)) {
+                continue;
+            }
+
+            Double distanceKm = null;
+            double distanceScore = 0;
+            if (hasLocation && task.lat() != null && task.lng() != null) {
+                distanceKm = GeoGrid.distanceKm(lat, lng, task.lat(), task.lng());
+                if (distanceKm > MAX_DISTANCE_KM) {
+                    continue;
+                }
+                distanceScore = 1 / (1 + distanceKm / DISTANCE_SCALE_KM);
+            }
+
+            double score = !anySkillMatches ? distanceScore
+                    : SKILL_WEIGHT * skillOverlap(skillKeys, task)
+                    + DISTANCE_WEIGHT * distanceScore
+                    + URGENCY_WEIGHT * urgencyScore(task.urgency())
+                    + BUDGET_WEIGHT * Math.min(1, Math.log1p(task.budget()) / Math.log1p(BUDGET_SCALE));
+
+            Match match = new Match(id, score, distanceKm);
+            if (top.size() < limit) {
+                top.add(match);
+            } else if (BY_SCORE.compare(match, top.peek()) > 0) {
+                top.poll();
+                top.add(match);
+            }
+        }
+
+        List<Match> ranked = new ArrayList<>(top);
+        ranked.sort(BY_SCORE.reversed());
+        return ranked;
+    }
+
+    // Share of the task's required skills the worker has; a task asks for one, its category
+    private static double skillOverlap(Set<String> skillKeys, Entry task) {
+        return skillKeys.contains(task.category()) ? 1 : 0;
+    }
+
+    private static double urgencyScore(UrgencyLevel urgency) {
+        return urgency == null ? 0 : (double) urgency.ordinal() / (UrgencyLevel.values().length - 1);
+    }
+
+    // Categories and skills are free text, matched case-insensitively
+    private static String key(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Index {
+        final Map<Long, Entry> openTasks = new ConcurrentHashMap<>();
+        final Map<String, Set<Long>> byCategory = new ConcurrentHashMap<>();
+
+        void add(OpenTaskSnapshot snapshot) {
+            Entry entry = new Entry(snapshot.getId(), key(snapshot.getCategory()),
+                    snapshot.getLat(), snapshot.getLng(),
+                    snapshot.getBudget() != null ? snapshot.getBudget() : 0,
+                    snapshot.getUrgency(), snapshot.getCreatedById());
+            openTasks.put(entry.id(), entry);
+            byCategory.computeIfAbsent(entry.category(), c -> ConcurrentHashMap.newKeySet()).add(entry.id());
+        }
+
+        void remove(Long taskId) {
+            Entry entry = openTasks.remove(taskId);
+            if (entry != null) {
+                Set<Long> ids = byCategory.get(entry.category());
+                if (ids != null) {
+                    ids.remove(taskId);
+                }
+            }
+        }
+    }
+
+    private record Entry(Long id, String category, Double lat, Double lng, int budget,
+                         UrgencyLevel urgency, Long createdById) {
+    }
+
+    public record Match(Long taskId, double score, Double distanceKm) {
+    }
+}
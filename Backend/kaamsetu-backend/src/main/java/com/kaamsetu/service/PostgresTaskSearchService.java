@@ -0,0 +1,53 @@
+package com.kaamsetu.service;
+
+import com.kaamsetu.config.TaskSearchFunctionContributor;
+import com.kaamsetu.entity.Task;
+import com.kaamsetu.util.SearchTokenizer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "postgres", matchIfMissing = true)
+@RequiredArgsConstructor
+public class PostgresTaskSearchService implements TaskSearchService {
+
+    // search_vector and its GIN index are created by db/migration/postgresql/V4__task_search_vector.sql
+    private static final String SEARCH_SQL =
+            "SELECT t.id FROM tasks t, to_tsquery('simple', ?) q "
+                    + "WHERE t.search_vector @@ q "
+                    + "ORDER BY ts_rank(t.search_vector, q) DESC, t.id DESC LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> search(String query, int limit) {
+        String tsQuery = toTsQuery(query);
+        return tsQuery == null ? List.of() : jdbcTemplate.queryForList(SEARCH_SQL, Long.class, tsQuery, limit);
+    }
+
+    @Override
+    public Specification<Task> matching(String query) {
+        String tsQuery = toTsQuery(query);
+        return (root, criteria, cb) -> tsQuery == null
+                ? cb.disjunction()
+                : cb.isTrue(cb.function(TaskSearchFunctionContributor.TASK_MATCHES, Boolean.class,
+                        root.get("id"), cb.literal(tsQuery)));
+    }
+
+    private static String toTsQuery(String query) {
+        List<String> terms = SearchTokenizer.tokenize(query);
+        if (terms.isEmpty()) {
+            return null;
+        }
+        // Terms contain only letters, marks and digits, so they are safe tsquery lexemes
+        return terms.stream()
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+}
@@ -0,0 +1,114 @@
+package com.kaamsetu.service;
+
+import com.kaamsetu.dto.RatingRequest;
+import com.kaamsetu.dto.RatingResponse;
+import com.kaamsetu.entity.Rating;
+import com.kaamsetu.entity.Task;
+import com.kaamsetu.entity.User;
+import com.kaamsetu.enums.TaskStatus;
+import com.kaamsetu.event.UserChangedEvent;
+import com.kaamsetu.exception.BadRequestException;
+import com.kaamsetu.exception.ConflictException;
+import com.kaamsetu.exception.ResourceNotFoundException;
+import com.kaamsetu.repository.RatingRepository;
+import com.kaamsetu.repository.TaskRepository;
+import com.kaamsetu.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class RatingService {
+
+    private static final int MAX_RATINGS = 50;
+
+    private final RatingRepository ratingRepository;
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // ─── Rate Task Participant ───
+
+    @Transactional
+    public RatingResponse rateTask(Long taskId, RatingRequest request, User currentUser) {
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+
+        if (task.getStatus() != TaskStatus.COMPLETED) {
+            throw new BadRequestException("Only completed tasks can be rated");
+        }
+
+        // The owner rates the worker; the worker rates the owner
+        User givenTo;
+        if (task.getCreatedBy().getId().equals(currentUser.getId())) {
+            givenTo = task.getAcceptedWorker();
+        } else if (task.getAcceptedWorker() != null
+                && task.getAcceptedWorker().getId().equals(currentUser.getId())) {
+            givenTo = task.getCreatedBy();
+        } else {
+            throw new BadRequestException("Only the task owner or its worker can rate this task");
+        }
+
+        if (givenTo == null) {
+            throw new BadRequestException("This task has no worker to rate");
+        }
+
+        if (ratingRepository.existsByTaskAndGivenBy(task, currentUser)) {
+            throw new ConflictException("You have already rated this task");
+        }
+
+        Rating rating;
+        try {
+            rating = ratingRepository.save(Rating.builder()
+                    .task(task)
+                    .givenBy(currentUser)
+                    .givenTo(givenTo)
+                    .stars(request.getStars())
+                    .review(request.getReview())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // Lost a race with a concurrent submission for the same task
+            throw new ConflictException("You have already rated this task");
+        }
+
+        userRepository.addRating(givenTo.getId(), request.getStars());
+        eventPublisher.publishEvent(new UserChangedEvent(givenTo.getPhone()));
+
+        return toRatingResponse(rating);
+    }
+
+    // ─── Ratings Received by User ───
+
+    @Transactional(readOnly = true)
+    public List<RatingResponse> getRatingsForUser(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found");
+        }
+        return ratingRepository.findRecentByGivenTo(userId, PageRequest.of(0, MAX_RATINGS))
+                .stream()
+                .map(this::toRatingResponse)
+                .collect(Collectors.toList());
+    }
+
+    // ─── Mappers ───
+
+    private RatingResponse toRatingResponse(Rating rating) {
+        return RatingResponse.builder()
+                .id(rating.getId())
+                .taskId(rating.getTask().getId())
+                .givenBy(rating.getGivenBy().getId())
+                .givenByName(rating.getGivenBy().getName())
+                .givenTo(rating.getGivenTo().getId())
+                .stars(rating.getStars())
+                .review(rating.getReview())
+                .createdAt(rating.getCreatedAt() != null ? rating.getCreatedAt().toString() : null)
+                .build();
+    }
+}
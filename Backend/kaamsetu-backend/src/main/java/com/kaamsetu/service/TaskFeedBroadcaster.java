@@ -0,0 +1,288 @@
+package com.kaamsetu.service;
+
+import com.kaamsetu.dto.TaskSummaryResponse;
+import com.kaamsetu.enums.TaskEventType;
+import com.kaamsetu.enums.UrgencyLevel;
+import com.kaamsetu.event.TaskChangedEvent;
+import com.kaamsetu.exception.TooManyRequestsException;
+import com.kaamsetu.util.GeoGrid;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes task-created and status-changed events to SSE subscribers.
+ * Idle subscribers are parked async requests (no servlet thread each); an event is
+ * loaded once and its payload queued to every subscriber whose filter matches. Each
+ * subscriber drains its own bounded queue, so a slow client only delays itself: it is
+ * dropped when its queue overflows or a send stalls past the send timeout.
+ */
+@Component
+@Slf4j
+public class TaskFeedBroadcaster {
+
+    private final TaskService taskService;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    // Held while subscribed; makes the subscriber cap exact under concurrent subscribes
+    private final Semaphore slots;
+    private final ScheduledExecutorService dispatcher;
+    // Sends block on the client socket; a virtual thread per draining subscriber keeps
+    // a stalled client from holding up anyone else
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final long timeoutMillis;
+    private final int queueCapacity;
+    private final long sendTimeoutNanos;
+
+    public TaskFeedBroadcaster(
+            TaskService taskService,
+            @Value("${app.feed-stream.max-subscribers:10000}") int maxSubscribers,
+            @Value("${app.feed-stream.timeout:30m}") Duration timeout,
+            @Value("${app.feed-stream.heartbeat:25s}") Duration heartbeat,
+            @Value("${app.feed-stream.dispatch-threads:2}") int dispatchThreads,
+            @Value("${app.feed-stream.queue-capacity:32}") int queueCapacity,
+            @Value("${app.feed-stream.send-timeout:10s}") Duration sendTimeout) {
+        this.taskService = taskService;
+        this.slots = new Semaphore(maxSubscribers);
+        this.timeoutMillis = timeout.toMillis();
+        this.queueCapacity = queueCapacity;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.dispatcher = Executors.newScheduledThreadPool(dispatchThreads);
+        // Keeps proxies and mobile networks from dropping quiet connections
+        this.dispatcher.scheduleAtFixedRate(this::sendHeartbeats,
+                heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(String category, UrgencyLevel urgency,
+                                Double lat, Double lng, Double radiusKm) {
+        return subscribe(new SseEmitter(timeoutMillis), category, urgency, lat, lng, radiusKm);
+    }
+
+    // Package-private so tests can supply the emitter
+    SseEmitter subscribe(SseEmitter emitter, String category, UrgencyLevel urgency,
+                         Double lat, Double lng, Double radiusKm) {
+        if (!slots.tryAcquire()) {
+            throw new TooManyRequestsException("Too many live feed connections, please retry later");
+        }
+
+        Subscription subscription = new Subscription(emitter,
+                category == null || category.isEmpty() ? null : category.toLowerCase(Locale.ROOT),
+                urgency, lat, lng, radiusKm, new ArrayBlockingQueue<>(queueCapacity));
+        subscriptions.add(subscription);
+
+        emitter.onCompletion(() -> remove(subscription));
+        emitter.onTimeout(() -> remove(subscription));
+        emitter.onError(e -> remove(subscription));
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    // After commit, so subscribers never see a change that rolled back
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        // Application counts alone are not pushed; creation and status changes are
+        if (event.getType() == TaskEventType.APPLIED || subscriptions.isEmpty()) {
+            return;
+        }
+        try {
+            dispatcher.execute(() -> broadcast(event));
+        } catch (RejectedExecutionException e) {
+            log.debug("Feed stream shutting down, dropped event for task {}", event.getTaskId());
+        }
+    }
+
+    private void broadcast(TaskChangedEvent event) {
+        TaskSummaryResponse task;
+        try {
+            task = taskService.getTaskSummary(event.getTaskId());
+        } catch (RuntimeException e) {
+            log.warn("Could not load task {} for feed stream", event.getTaskId(), e);
+            return;
+        }
+
+        FeedMessage message = new FeedMessage(event.getType().name().toLowerCase(Locale.ROOT), task);
+        for (Subscription subscription : subscriptions) {
+            if (subscription.matches(task)) {
+                enqueue(subscription, message);
+            }
+        }
+    }
+
+    private void sendHeartbeats() {
+        long now = System.nanoTime();
+        for (Subscription subscription : subscriptions) {
+            long since = subscription.sendingSince;
+            if (since != 0 && now - since > sendTimeoutNanos) {
+                log.debug("Dropping feed subscriber stalled in send for {} ms",
+                        TimeUnit.NANOSECONDS.toMillis(now - since));
+                evict(subscription);
+            } else {
+                enqueue(subscription, FeedMessage.HEARTBEAT);
+            }
+        }
+    }
+
+    private void enqueue(Subscription subscription, FeedMessage message) {
+        if (!subscription.pending().offer(message)) {
+            evict(subscription); // too far behind to catch up
+            return;
+        }
+        if (subscription.draining().compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscription));
+            } catch (RejectedExecutionException e) {
+                subscription.draining().set(false);
+            }
+        }
+    }
+
+    private void drain(Subscription subscription) {
+        while (true) {
+            FeedMessage message = subscription.pending().poll();
+            if (message == null) {
+                subscription.draining().set(false);
+                // An enqueue between poll and set saw draining=true and left it to us
+                if (subscription.pending().isEmpty() || !subscription.draining().compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            if (!subscriptions.contains(subscription)) {
+                subscription.pending().clear();
+                return;
+            }
+            subscription.sendingSince = System.nanoTime();
+            try {
+                subscription.emitter().send(message.toEvent());
+            } catch (IOException | RuntimeException e) {
+                // Client went away, or the send failed in a way we can't recover from; either
+                // way completing triggers the async dispatch that frees the request
+                remove(subscription);
+                subscription.emitter().completeWithError(e);
+                return;
+            } finally {
+                subscription.sendingSince = 0;
+            }
+        }
+    }
+
+    // Stops delivery now; closing runs on a sender since a stalled send may hold the emitter
+    private void evict(Subscription subscription) {
+        if (remove(subscription)) {
+            subscription.pending().clear();
+            try {
+                senders.execute(() -> subscription.emitter().complete());
+            } catch (RejectedExecutionException e) {
+                // shutting down; the emitter times out on its own
+            }
+        }
+    }
+
+    private boolean remove(Subscription subscription) {
+        if (subscriptions.remove(subscription)) {
+            slots.release();
+            return true;
+        }
+        return false;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatcher.shutdownNow();
+        senders.shutdownNow();
+        subscriptions.forEach(subscription -> subscription.emitter().complete());
+        subscriptions.clear();
+    }
+
+    /**
+     * What gets queued: immutable and shared across subscribers. An {@link SseEmitter.SseEventBuilder}
+     * can't be, since {@code build()} appends to the builder's own state on every call.
+     */
+    private record FeedMessage(String name, TaskSummaryResponse task) {
+
+        static final FeedMessage HEARTBEAT = new FeedMessage(null, null);
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (task == null) {
+                return SseEmitter.event().comment("keep-alive");
+            }
+            return SseEmitter.event().name(name).data(task, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    private static final class Subscription {
+        private final SseEmitter emitter;
+        private final String category;
+        private final UrgencyLevel urgency;
+        private final Double lat;
+        private final Double lng;
+        private final Double radiusKm;
+        private final BlockingQueue<FeedMessage> pending;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // System.nanoTime() when the current send started, 0 when idle
+        private volatile long sendingSince;
+
+        Subscription(SseEmitter emitter, String category, UrgencyLevel urgency,
+                     Double lat, Double lng, Double radiusKm,
+                     BlockingQueue<FeedMessage> pending) {
+            this.emitter = emitter;
+            this.category = category;
+            this.urgency = urgency;
+            this.lat = lat;
+            this.lng = lng;
+            this.radiusKm = radiusKm;
+            this.pending = pending;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        BlockingQueue<FeedMessage> pending() {
+            return pending;
+        }
+
+        AtomicBoolean draining() {
+            return draining;
+        }
+
+        boolean matches(TaskSummaryResponse task) {
+            if (category != null && !category.equalsIgnoreCase(task.getCategory())) {
+                return false;
+            }
+            if (urgency != null && !urgency.name().equals(task.getUrgency())) {
+                return false;
+            }
+            if (radiusKm != null) {
+                if (task.getLocation() == null
+                        || task.getLocation().getLat() == null || task.getLocation().getLng() == null) {
+                    return false;
+                }
+                return GeoGrid.distanceKm(lat, lng,
+                        task.getLocation().getLat(), task.getLocation().getLng()) <= radiusKm;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.kaamsetu.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.kaamsetu.dto.CursorPageResponse;
+import com.kaamsetu.event.TaskChangedEvent;
+import com.kaamsetu.util.SearchTokenizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Caches feed pages keyed by normalized filters and cursor. Every committed
+ * {@link TaskChangedEvent} starts a new generation; keys carry the generation they
+ * were read under, so a page computed concurrently with a change can never be
+ * served afterwards. The TTL bounds staleness for changes made on other instances.
+ */
+@Component
+public class TaskFeedCache {
+
+    private final Cache<FeedKey, CachedPage> cache;
+    private final boolean enabled;
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder servedHits = new LongAdder();
+    private final LongAdder servedAgeNanos = new LongAdder();
+
+    public TaskFeedCache(
+            @Value("${app.feed-cache.enabled:true}") boolean enabled,
+            @Value("${app.feed-cache.max-size:1000}") long maxSize,
+            @Value("${app.feed-cache.ttl:30s}") Duration ttl) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public CursorPageResponse<?> get(String category, String urgency, String status, String search,
+                                     String cursor, Integer size, boolean expand,
+                                     Supplier<CursorPageResponse<?>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        FeedKey key = new FeedKey(generation.get(),
+                normalize(category, false), normalize(urgency, true), normalize(status, true),
+                search == null || search.isBlank()
+                        ? "" : "q:" + String.join(" ", SearchTokenizer.tokenize(search)),
+                cursor == null ? "" : cursor,
+                size == null ? 0 : size,
+                expand);
+
+        CachedPage cached = cache.getIfPresent(key);
+        if (cached != null) {
+            servedHits.increment();
+            servedAgeNanos.add(System.nanoTime() - cached.loadedAtNanos());
+            return cached.page();
+        }
+
+        CursorPageResponse<?> page = loader.get();
+        cache.put(key, new CachedPage(page, System.nanoTime()));
+        return page;
+    }
+
+    // Fires after the publishing transaction commits, so readers never repopulate from uncommitted state
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        generation.incrementAndGet();
+        invalidations.increment();
+        cache.invalidateAll();
+    }
+
+    // ─── Metrics ───
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public long invalidations() {
+        return invalidations.sum();
+    }
+
+    /** Mean age of pages served from the cache, i.e. how stale a hit is on average. */
+    public double averageStalenessMillis() {
+        long hits = servedHits.sum();
+        return hits == 0 ? 0 : servedAgeNanos.sum() / 1_000_000.0 / hits;
+    }
+
+    private static String normalize(String value, boolean upper) {
+        if (value == null) {
+            return "";
+        }
+        // Filters are matched case-insensitively, so case variants share an entry
+        return upper ? value.toUpperCase(Locale.ROOT) : value.toLowerCase(Locale.ROOT);
+    }
+
+    private record FeedKey(long generation, String category, String urgency, String status,
+                           String search, String cursor, int size, boolean expand) {
+    }
+
+    private record CachedPage(CursorPageResponse<?> page, long loadedAtNanos) {
+    }
+}
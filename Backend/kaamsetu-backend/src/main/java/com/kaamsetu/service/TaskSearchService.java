@@ -0,0 +1,22 @@
+package com.kaamsetu.service;
+
+import com.kaamsetu.entity.Task;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Full-text search over task title and description. Every query term is
+ * matched as a prefix and all terms must match; ids come back best match first.
+ */
+public interface TaskSearchService {
+
+    List<Long> search(String query, int limit);
+
+    // Every match, as a feed filter; the feed pages it in its own order
+    Specification<Task> matching(String query);
+
+    // Engines backed by a generated column need no explicit indexing
+    default void index(Task task) {
+    }
+}
@@ -6,46 +6,217 @@ import com.kaamsetu.entity.Location;
 import com.kaamsetu.entity.Task;
 import com.kaamsetu.entity.User;
 import com.kaamsetu.enums.ApplicationStatus;
+import com.kaamsetu.enums.TaskEventType;
 import com.kaamsetu.enums.TaskStatus;
 import com.kaamsetu.enums.UrgencyLevel;
+import com.kaamsetu.enums.UserCounter;
+import com.kaamsetu.event.TaskChangedEvent;
+import com.kaamsetu.event.UserChangedEvent;
 import com.kaamsetu.exception.BadRequestException;
+import com.kaamsetu.exception.ConflictException;
 import com.kaamsetu.exception.ResourceNotFoundException;
+import com.kaamsetu.repository.AppliedTaskRow;
 import com.kaamsetu.repository.ApplicationRepository;
+import com.kaamsetu.repository.TaskCursor;
+import com.kaamsetu.repository.TaskPoint;
 import com.kaamsetu.repository.TaskRepository;
+import com.kaamsetu.repository.TaskSpecifications;
+import com.kaamsetu.repository.TaskSummaryRow;
+import com.kaamsetu.repository.TaskVersion;
 import com.kaamsetu.repository.UserRepository;
+import com.kaamsetu.util.GeoGrid;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "kaamsetu.task.service", histogram = true)
 public class TaskService {
 
     private final TaskRepository taskRepository;
     private final ApplicationRepository applicationRepository;
     private final UserRepository userRepository;
+    private final TaskSearchService taskSearchService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OpenTaskIndex openTaskIndex;
 
     // ─── Get All Tasks (with filters) ───
 
-    public List<TaskResponse> getAllTasks(String category, String urgency,
-                                          String status, String search) {
-        List<Task> tasks = taskRepository.findAllByOrderByCreatedAtDesc();
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
 
-        return tasks.stream()
-                .filter(t -> category == null || category.isEmpty()
-                        || t.getCategory().equalsIgnoreCase(category))
-                .filter(t -> urgency == null || urgency.isEmpty()
-                        || t.getUrgency().name().equalsIgnoreCase(urgency))
-                .filter(t -> status == null || status.isEmpty()
-                        || t.getStatus().name().equalsIgnoreCase(status))
-                .filter(t -> search == null || search.isEmpty()
-                        || t.getTitle().toLowerCase().contains(search.toLowerCase())
-                        || t.getDescription().toLowerCase().contains(search.toLowerCase()))
-                .map(this::toTaskResponse)
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskSummaryResponse> getAllTasks(String category, String urgency,
+                                                               String status, String search,
+                                                               String cursor, Integer size) {
+        return getFeedPage(category, urgency, status, search, cursor, size,
+                taskRepository::findFeedSummaryPage, TaskCursor::of, this::toTaskSummaries);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskResponse> getAllTasksWithApplications(String category, String urgency,
+                                                                        String status, String search,
+                                                                        String cursor, Integer size) {
+        return getFeedPage(category, urgency, status, search, cursor, size,
+                taskRepository::findFeedPage, TaskCursor::of, this::toTaskResponses);
+    }
+
+    // T is what the page query returns (entities or summary rows), R what the client gets
+    private <T, R> CursorPageResponse<R> getFeedPage(String category, String urgency,
+                                                     String status, String search,
+                                                     String cursor, Integer size,
+                                                     BiFunction<Specification<Task>, Integer, List<T>> query,
+                                                     Function<T, TaskCursor> cursorOf,
+                                                     Function<List<T>, List<R>> mapper) {
+        int pageSize = size == null || size < 1 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+
+        Specification<Task> spec = Specification.where(null);
+        if (category != null && !category.isEmpty()) {
+            spec = spec.and(TaskSpecifications.hasCategory(category));
+        }
+        if (urgency != null && !urgency.isEmpty()) {
+            spec = spec.and(TaskSpecifications.hasUrgency(parseEnum(UrgencyLevel.class, urgency, "urgency")));
+        }
+        if (status != null && !status.isEmpty()) {
+            spec = spec.and(TaskSpecifications.hasStatus(parseEnum(TaskStatus.class, status, "status")));
+        }
+        if (search != null && !search.isBlank()) {
+            spec = spec.and(taskSearchService.matching(search));
+        }
+        if (cursor != null && !cursor.isEmpty()) {
+            try {
+                spec = spec.and(TaskSpecifications.after(TaskCursor.decode(cursor)));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Invalid cursor");
+            }
+        }
+
+        // Fetch one extra row to learn whether another page exists
+        List<T> rows = query.apply(spec, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        return CursorPageResponse.<R>builder()
+                .items(mapper.apply(rows))
+                .nextCursor(hasMore ? cursorOf.apply(rows.get(rows.size() - 1)).encode() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    // ─── Search Tasks (ranked) ───
+
+    private static final int MAX_SEARCH_RESULTS = 50;
+
+    @Transactional(readOnly = true)
+    public List<TaskSummaryResponse> searchTasks(String query, Integer limit) {
+        int max = limit == null || limit < 1 ? MAX_SEARCH_RESULTS : Math.min(limit, MAX_SEARCH_RESULTS);
+        return findSummariesInOrder(taskSearchService.search(query, max));
+    }
+
+    // ─── Nearby Tasks ───
+
+    private static final double DEFAULT_RADIUS_KM = 5;
+    private static final double MAX_RADIUS_KM = 50;
+    private static final int NEARBY_LIMIT = 50;
+
+    @Transactional(readOnly = true)
+    public List<TaskSummaryResponse> getNearbyTasks(double lat, double lng, Double radiusKm) {
+        if (lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+            throw new BadRequestException("Invalid coordinates");
+        }
+        double radius = radiusKm == null || radiusKm <= 0
+                ? DEFAULT_RADIUS_KM : Math.min(radiusKm, MAX_RADIUS_KM);
+
+        GeoGrid.BoundingBox box = GeoGrid.boundingBox(lat, lng, radius);
+        List<TaskPoint> candidates = taskRepository.findPointsInBoundingBox(
+                GeoGrid.cellsCovering(box), TaskStatus.OPEN,
+                box.getMinLat(), box.getMaxLat(), box.getMinLng(), box.getMaxLng());
+
+        // Exact distance only for the pre-filtered candidates; entities only for the nearest
+        Map<Long, Double> distances = new HashMap<>();
+        for (TaskPoint point : candidates) {
+            double distance = GeoGrid.distanceKm(lat, lng, point.getLat(), point.getLng());
+            if (distance <= radius) {
+                distances.put(point.getId(), distance);
+            }
+        }
+        List<Long> nearestIds = distances.keySet().stream()
+                .sorted(Comparator.comparingDouble(distances::get))
+                .limit(NEARBY_LIMIT)
                 .collect(Collectors.toList());
+
+        List<TaskSummaryResponse> summaries = findSummariesInOrder(nearestIds);
+        summaries.forEach(summary -> summary.setDistanceKm(distances.get(summary.getId())));
+        return summaries;
+    }
+
+    // ─── Recommended Tasks ───
+
+    private static final int DEFAULT_RECOMMENDATIONS = 20;
+    private static final int MAX_RECOMMENDATIONS = 50;
+
+    @Transactional(readOnly = true)
+    public List<TaskSummaryResponse> getRecommendedTasks(User worker, Double lat, Double lng, Integer limit) {
+        int max = limit == null || limit < 1
+                ? DEFAULT_RECOMMENDATIONS : Math.min(limit, MAX_RECOMMENDATIONS);
+        // Device location wins over the profile location
+        Double fromLat = lat != null && lng != null ? lat : worker.getLatitude();
+        Double fromLng = lat != null && lng != null ? lng : worker.getLongitude();
+
+        Set<Long> appliedTaskIds = applicationRepository.findTaskIdsByWorkerId(worker.getId());
+        List<OpenTaskIndex.Match> matches = openTaskIndex.recommend(worker.getSkills(), worker.getId(),
+                appliedTaskIds, fromLat, fromLng, max);
+        Map<Long, TaskSummaryRow> rowsById = loadOpenTasks(matches);
+        if (rowsById.size() < matches.size()) {
+            // Stale entries are evicted now; rank once more to fill their places
+            matches = openTaskIndex.recommend(worker.getSkills(), worker.getId(),
+                    appliedTaskIds, fromLat, fromLng, max);
+            rowsById = loadOpenTasks(matches);
+        }
+        Map<Long, TaskSummaryRow> openById = rowsById;
+        List<TaskSummaryRow> ranked = matches.stream()
+                .map(match -> openById.get(match.taskId()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        Map<Long, Double> distances = new HashMap<>();
+        matches.stream()
+                .filter(match -> match.distanceKm() != null)
+                .forEach(match -> distances.put(match.taskId(), match.distanceKm()));
+        List<TaskSummaryResponse> summaries = toTaskSummaries(ranked);
+        summaries.forEach(summary -> summary.setDistanceKm(distances.get(summary.getId())));
+        return summaries;
+    }
+
+    // The index only hears this instance's events, so re-check status and evict what is closed
+    private Map<Long, TaskSummaryRow> loadOpenTasks(List<OpenTaskIndex.Match> matches) {
+        List<Long> ids = matches.stream().map(OpenTaskIndex.Match::taskId).collect(Collectors.toList());
+        Map<Long, TaskSummaryRow> open = taskRepository.findSummariesByIdIn(ids).stream()
+                .filter(row -> row.status() == TaskStatus.OPEN)
+                .collect(Collectors.toMap(TaskSummaryRow::id, Function.identity()));
+        List<Long> stale = ids.stream().filter(id -> !open.containsKey(id)).collect(Collectors.toList());
+        if (!stale.isEmpty()) {
+            openTaskIndex.evict(stale);
+        }
+        return open;
     }
 
     // ─── Get Task By ID ───
@@ -57,8 +228,24 @@ public class TaskService {
         return toTaskResponse(task);
     }
 
+    @Transactional(readOnly = true)
+    public TaskSummaryResponse getTaskSummary(Long id) {
+        return taskRepository.findSummaryById(id)
+                .map(this::toTaskSummary)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+    }
+
+    // Validators for conditional GET: the task version covers the task and its applications,
+    // the user revision covers the owner's and applicants' names and ratings
+    @Transactional(readOnly = true)
+    public TaskVersion getTaskVersion(Long id) {
+        return taskRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+    }
+
     // ─── Create Task ───
 
+    @Transactional
     public TaskResponse createTask(TaskRequest request, User currentUser) {
         UrgencyLevel urgency;
         try {
@@ -88,11 +275,16 @@ public class TaskService {
                 .build();
 
         task = taskRepository.save(task);
+        userRepository.incrementCounter(currentUser.getId(), UserCounter.TASKS_POSTED, 1);
+        publishUserChanged(currentUser);
+        taskSearchService.index(task);
+        publish(task.getId(), TaskEventType.CREATED, task.getStatus());
         return toTaskResponse(task);
     }
 
     // ─── Apply for Task ───
 
+    @Transactional
     public ApplicationResponse applyForTask(Long taskId, ApplicationRequest request,
                                             User worker) {
         Task task = taskRepository.findById(taskId)
@@ -120,6 +312,10 @@ public class TaskService {
                 .build();
 
         application = applicationRepository.save(application);
+        userRepository.incrementCounter(worker.getId(), UserCounter.APPLICATIONS_SENT, 1);
+        publishUserChanged(worker);
+        taskRepository.touch(taskId, LocalDateTime.now());
+        publish(taskId, TaskEventType.APPLIED, task.getStatus());
         return toApplicationResponse(application);
     }
 
@@ -134,10 +330,6 @@ public class TaskService {
             throw new BadRequestException("Only the task owner can accept applications");
         }
 
-        if (task.getStatus() != TaskStatus.OPEN) {
-            throw new BadRequestException("Task is no longer open");
-        }
-
         Application accepted = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
 
@@ -145,25 +337,35 @@ public class TaskService {
             throw new BadRequestException("Application does not belong to this task");
         }
 
-        // Accept this application
-        accepted.setStatus(ApplicationStatus.ACCEPTED);
-        applicationRepository.save(accepted);
+        Long workerId = accepted.getWorker().getId();
+        if (isAcceptedBy(task, workerId)) {
+            // Retried request (double tap / resent) for an accept that already happened
+            return toTaskResponse(task);
+        }
+
+        if (task.getStatus() != TaskStatus.OPEN) {
+            throw new BadRequestException("Task is no longer open");
+        }
 
-        // Reject all others
-        List<Application> others = applicationRepository.findByTask(task);
-        for (Application app : others) {
-            if (!app.getId().equals(applicationId)) {
-                app.setStatus(ApplicationStatus.REJECTED);
-                applicationRepository.save(app);
+        // Atomic OPEN → ACCEPTED: of several concurrent accepts exactly one updates the row
+        int updated = taskRepository.transitionStatusWithWorker(
+                taskId, TaskStatus.OPEN, TaskStatus.ACCEPTED, accepted.getWorker(), LocalDateTime.now());
+        if (updated == 0) {
+            Task current = taskRepository.findById(taskId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+            if (isAcceptedBy(current, workerId)) {
+                return toTaskResponse(current);
             }
+            throw new ConflictException("Task was accepted or changed by another request");
         }
 
-        // Update task
-        task.setStatus(TaskStatus.ACCEPTED);
-        task.setAcceptedWorker(accepted.getWorker());
-        task = taskRepository.save(task);
+        // Accept this application and reject all others, one statement each
+        applicationRepository.updateStatus(applicationId, ApplicationStatus.ACCEPTED);
+        applicationRepository.updateStatusExcept(taskId, applicationId, ApplicationStatus.REJECTED);
+        publish(taskId, TaskEventType.ACCEPTED, TaskStatus.ACCEPTED);
 
-        return toTaskResponse(task);
+        return toTaskResponse(taskRepository.findById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found")));
     }
 
     // ─── Complete Task ───
@@ -177,61 +379,179 @@ public class TaskService {
             throw new BadRequestException("Only the task owner can complete it");
         }
 
+        if (task.getStatus() == TaskStatus.COMPLETED) {
+            // Retried request: completion (and the worker's count) already applied once
+            return toTaskResponse(task);
+        }
+
         if (task.getStatus() != TaskStatus.ACCEPTED) {
             throw new BadRequestException("Task must be in ACCEPTED status to complete");
         }
 
-        task.setStatus(TaskStatus.COMPLETED);
-        task = taskRepository.save(task);
+        int updated = taskRepository.transitionStatus(
+                taskId, TaskStatus.ACCEPTED, TaskStatus.COMPLETED, LocalDateTime.now());
+        Task current = taskRepository.findById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+        if (updated == 0) {
+            if (current.getStatus() == TaskStatus.COMPLETED) {
+                return toTaskResponse(current);
+            }
+            throw new ConflictException("Task was changed by another request");
+        }
 
-        // Increment worker's completed count
-        User worker = task.getAcceptedWorker();
-        if (worker != null) {
-            worker.setTasksCompleted(worker.getTasksCompleted() + 1);
-            userRepository.save(worker);
+        // Increment worker's completed count in place; no read-modify-write of the user row
+        if (current.getAcceptedWorker() != null) {
+            userRepository.incrementCounter(
+                    current.getAcceptedWorker().getId(), UserCounter.TASKS_COMPLETED, 1);
+            publishUserChanged(current.getAcceptedWorker());
         }
+        publish(taskId, TaskEventType.COMPLETED, TaskStatus.COMPLETED);
 
-        return toTaskResponse(task);
+        return toTaskResponse(current);
     }
 
     // ─── Get Tasks by User (posted) ───
 
-    public List<TaskResponse> getTasksByUser(Long userId) {
+    @Transactional(readOnly = true)
+    public List<TaskSummaryResponse> getTasksByUser(Long userId) {
+        List<TaskSummaryRow> rows = taskRepository.findSummariesByCreatedById(userId);
+        if (rows.isEmpty() && !userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found");
+        }
+        return toTaskSummaries(rows);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskResponse> getTasksByUserWithApplications(Long userId) {
+        return toTaskResponses(findTasksByUser(userId));
+    }
+
+    private List<Task> findTasksByUser(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return taskRepository.findByCreatedByOrderByCreatedAtDesc(user)
-                .stream()
-                .map(this::toTaskResponse)
-                .collect(Collectors.toList());
+        return taskRepository.findByCreatedByOrderByCreatedAtDesc(user);
     }
 
     // ─── Get Applied Tasks ───
 
-    public List<TaskResponse> getAppliedTasks(Long userId) {
-        User worker = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    @Transactional(readOnly = true)
+    public CursorPageResponse<AppliedTaskResponse> getAppliedTasks(Long userId, String cursor, Integer size) {
+        int pageSize = size == null || size < 1 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        long beforeId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isEmpty()) {
+            try {
+                beforeId = Long.parseLong(cursor);
+            } catch (NumberFormatException e) {
+                throw new BadRequestException("Invalid cursor");
+            }
+        }
 
-        List<Application> applications = applicationRepository.findByWorker(worker);
-        return applications.stream()
-                .map(app -> toTaskResponse(app.getTask()))
-                .distinct()
-                .collect(Collectors.toList());
+        // Fetch one extra row to learn whether another page exists
+        List<AppliedTaskRow> rows = applicationRepository.findAppliedTaskRows(
+                userId, beforeId, PageRequest.of(0, pageSize + 1));
+        if (rows.isEmpty() && beforeId == Long.MAX_VALUE && !userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found");
+        }
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        return CursorPageResponse.<AppliedTaskResponse>builder()
+                .items(rows.stream().map(this::toAppliedTaskResponse).collect(Collectors.toList()))
+                .nextCursor(hasMore ? String.valueOf(rows.get(rows.size() - 1).getApplicationId()) : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    // ─── Helpers ───
+
+    private boolean isAcceptedBy(Task task, Long workerId) {
+        return task.getStatus() != TaskStatus.OPEN
+                && task.getAcceptedWorker() != null
+                && task.getAcceptedWorker().getId().equals(workerId);
+    }
+
+    // Listeners run after commit (see TaskFeedCache), never on a rolled-back change
+    private void publish(Long taskId, TaskEventType type, TaskStatus status) {
+        eventPublisher.publishEvent(new TaskChangedEvent(taskId, type, status));
+    }
+
+    // Counter updates are bulk JPQL; cached copies of the user are dropped on commit
+    private void publishUserChanged(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(user.getPhone()));
+    }
+
+    private <E extends Enum<E>> E parseEnum(Class<E> type, String value, String field) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid " + field + ": " + value);
+        }
     }
 
     // ─── Mappers ───
 
     private TaskResponse toTaskResponse(Task task) {
-        List<Application> applications = applicationRepository.findByTaskId(task.getId());
-
-        LocationDto locationDto = null;
-        if (task.getLocation() != null) {
-            locationDto = new LocationDto(
-                    task.getLocation().getLat(),
-                    task.getLocation().getLng(),
-                    task.getLocation().getAddress()
-            );
+        return toTaskResponse(task, applicationRepository.findByTaskIdWithWorker(task.getId()));
+    }
+
+    // Loads applications for all tasks in a single IN query instead of one query per task
+    private List<TaskResponse> toTaskResponses(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> taskIds = tasks.stream().map(Task::getId).collect(Collectors.toList());
+        Map<Long, List<Application>> applicationsByTask = applicationRepository
+                .findByTaskIdInWithWorker(taskIds)
+                .stream()
+                .collect(Collectors.groupingBy(app -> app.getTask().getId()));
+
+        return tasks.stream()
+                .map(task -> toTaskResponse(task,
+                        applicationsByTask.getOrDefault(task.getId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
+    // Summaries for ranked ids, in the ranking's order; ids that no longer exist are skipped
+    private List<TaskSummaryResponse> findSummariesInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
         }
+        Map<Long, TaskSummaryRow> rowsById = taskRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(TaskSummaryRow::id, Function.identity()));
+        return toTaskSummaries(ids.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()));
+    }
 
+    // List view: built from scalar rows, so no task, user or application entity is loaded
+    private List<TaskSummaryResponse> toTaskSummaries(List<TaskSummaryRow> rows) {
+        return rows.stream().map(this::toTaskSummary).collect(Collectors.toList());
+    }
+
+    private TaskSummaryResponse toTaskSummary(TaskSummaryRow row) {
+        boolean hasLocation = row.lat() != null || row.lng() != null || row.address() != null;
+        return TaskSummaryResponse.builder()
+                .id(row.id())
+                .title(row.title())
+                .description(row.description())
+                .category(row.category())
+                .budget(row.budget())
+                .urgency(row.urgency().name())
+                .status(row.status().name())
+                .location(hasLocation ? new LocationDto(row.lat(), row.lng(), row.address()) : null)
+                .createdBy(row.createdById())
+                .createdByName(row.createdByName())
+                .createdAt(row.createdAt() != null ? row.createdAt().toString() : null)
+                .applicationCount(row.applicationCount() != null ? row.applicationCount() : 0)
+                .acceptedWorker(row.acceptedWorkerId())
+                .build();
+    }
+
+    private TaskResponse toTaskResponse(Task task, List<Application> applications) {
         return TaskResponse.builder()
                 .id(task.getId())
                 .title(task.getTitle())
@@ -240,7 +560,7 @@ public class TaskService {
                 .budget(task.getBudget())
                 .urgency(task.getUrgency().name())
                 .status(task.getStatus().name())
-                .location(locationDto)
+                .location(toLocationDto(task.getLocation()))
                 .createdBy(task.getCreatedBy().getId())
                 .createdByName(task.getCreatedBy().getName())
                 .createdAt(task.getCreatedAt() != null ? task.getCreatedAt().toString() : null)
@@ -252,6 +572,36 @@ public class TaskService {
                 .build();
     }
 
+    private LocationDto toLocationDto(Location location) {
+        if (location == null) {
+            return null;
+        }
+        return new LocationDto(location.getLat(), location.getLng(), location.getAddress());
+    }
+
+    private AppliedTaskResponse toAppliedTaskResponse(AppliedTaskRow row) {
+        boolean hasLocation = row.getLat() != null || row.getLng() != null || row.getAddress() != null;
+        return AppliedTaskResponse.builder()
+                .id(row.getTaskId())
+                .title(row.getTitle())
+                .description(row.getDescription())
+                .category(row.getCategory())
+                .budget(row.getBudget())
+                .urgency(row.getUrgency().name())
+                .status(row.getStatus().name())
+                .location(hasLocation ? new LocationDto(row.getLat(), row.getLng(), row.getAddress()) : null)
+                .createdBy(row.getCreatedById())
+                .createdByName(row.getCreatedByName())
+                .createdAt(row.getCreatedAt() != null ? row.getCreatedAt().toString() : null)
+                .applicationCount(row.getApplicationCount() != null ? row.getApplicationCount() : 0)
+                .acceptedWorker(row.getAcceptedWorkerId())
+                .applicationId(row.getApplicationId())
+                .applicationStatus(row.getApplicationStatus() != null ? row.getApplicationStatus().name() : null)
+                .proposedBudget(row.getProposedBudget())
+                .appliedAt(row.getAppliedAt() != null ? row.getAppliedAt().toString() : null)
+                .build();
+    }
+
     private ApplicationResponse toApplicationResponse(Application app) {
         return ApplicationResponse.builder()
                 .id(app.getId())
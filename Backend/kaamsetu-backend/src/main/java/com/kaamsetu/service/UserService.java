@@ -13,6 +13,11 @@ public class UserService {
 
     private final UserRepository userRepository;
 
+    public long getUserRevision(Long id) {
+        return userRepository.findRevisionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+    }
+
     public UserResponse getUserById(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
@@ -25,6 +30,8 @@ public class UserService {
                 .skills(user.getSkills())
                 .rating(user.getRating())
                 .tasksCompleted(user.getTasksCompleted())
+                .tasksPosted(user.getTasksPosted())
+                .applicationsSent(user.getApplicationsSent())
                 .createdAt(user.getCreatedAt() != null ? user.getCreatedAt().toString() : null)
                 .build();
     }
@@ -0,0 +1,87 @@
+package com.kaamsetu.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-size lat/lng grid used as a coarse spatial index on tasks.
+ * Each point maps to a single cell id; a radius search expands to the
+ * cells covering its bounding box, which the database can match by index.
+ */
+public final class GeoGrid {
+
+    public static final double CELL_DEGREES = 0.1;   // ~11 km of latitude
+    private static final int LAT_CELLS = (int) Math.round(180 / CELL_DEGREES);
+    private static final int LNG_CELLS = (int) Math.round(360 / CELL_DEGREES);
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double MAX_LAT_FOR_LNG_SPAN = 85.0;
+
+    private GeoGrid() {
+    }
+
+    public static Long cellOf(Double lat, Double lng) {
+        if (lat == null || lng == null) {
+            return null;
+        }
+        return cellOf(latIndex(lat), lngIndex(lng));
+    }
+
+    public static BoundingBox boundingBox(double lat, double lng, double radiusKm) {
+        double dLat = Math.toDegrees(radiusKm / EARTH_RADIUS_KM);
+        double cosLat = Math.cos(Math.toRadians(Math.min(Math.abs(lat), MAX_LAT_FOR_LNG_SPAN)));
+        double dLng = Math.toDegrees(radiusKm / (EARTH_RADIUS_KM * cosLat));
+        return new BoundingBox(
+                Math.max(-90, lat - dLat), Math.min(90, lat + dLat),
+                Math.max(-180, lng - dLng), Math.min(180, lng + dLng)
+        );
+    }
+
+    public static List<Long> cellsCovering(BoundingBox box) {
+        int minLat = latIndex(box.getMinLat());
+        int maxLat = latIndex(box.getMaxLat());
+        int minLng = lngIndex(box.getMinLng());
+        int maxLng = lngIndex(box.getMaxLng());
+
+        List<Long> cells = new ArrayList<>((maxLat - minLat + 1) * (maxLng - minLng + 1));
+        for (int la = minLat; la <= maxLat; la++) {
+            for (int ln = minLng; ln <= maxLng; ln++) {
+                cells.add(cellOf(la, ln));
+            }
+        }
+        return cells;
+    }
+
+    // Great-circle distance (haversine)
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static long cellOf(int latIndex, int lngIndex) {
+        return (long) latIndex * LNG_CELLS + lngIndex;
+    }
+
+    private static int latIndex(double lat) {
+        return Math.min(LAT_CELLS - 1, Math.max(0, (int) Math.floor((lat + 90) / CELL_DEGREES)));
+    }
+
+    private static int lngIndex(double lng) {
+        return Math.min(LNG_CELLS - 1, Math.max(0, (int) Math.floor((lng + 180) / CELL_DEGREES)));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class BoundingBox {
+        private final double minLat;
+        private final double maxLat;
+        private final double minLng;
+        private final double maxLng;
+    }
+}
@@ -0,0 +1,30 @@
+package com.kaamsetu.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Splits free text into lowercase search terms. Letters, combining marks and
+ * digits are kept so Devanagari words and romanised Hindi ("bijli", "safai")
+ * survive intact; everything else is a separator.
+ */
+public final class SearchTokenizer {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{M}\\p{N}]+");
+
+    private SearchTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(SEPARATORS.split(text.toLowerCase(Locale.ROOT)))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,73 @@
+-- Baseline schema as previously generated by ddl-auto=update.
+-- IF NOT EXISTS lets this run against databases that predate Flyway (baseline-on-migrate).
+
+CREATE TABLE IF NOT EXISTS users (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name              VARCHAR(255)     NOT NULL,
+    phone             VARCHAR(255)     NOT NULL,
+    password          VARCHAR(255)     NOT NULL,
+    role              VARCHAR(255)     NOT NULL,
+    rating            DOUBLE PRECISION,
+    rating_sum        BIGINT           DEFAULT 0 NOT NULL,
+    rating_count      INTEGER          DEFAULT 0 NOT NULL,
+    tasks_completed   INTEGER,
+    tasks_posted      INTEGER          DEFAULT 0 NOT NULL,
+    applications_sent INTEGER          DEFAULT 0 NOT NULL,
+    latitude          DOUBLE PRECISION,
+    longitude         DOUBLE PRECISION,
+    created_at        TIMESTAMP(6),
+    CONSTRAINT uk_users_phone UNIQUE (phone)
+);
+
+CREATE TABLE IF NOT EXISTS user_skills (
+    user_id BIGINT NOT NULL,
+    skill   VARCHAR(255),
+    CONSTRAINT fk_user_skills_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title           VARCHAR(255)     NOT NULL,
+    description     VARCHAR(1000)    NOT NULL,
+    category        VARCHAR(255)     NOT NULL,
+    budget          INTEGER          NOT NULL,
+    urgency         VARCHAR(255)     NOT NULL,
+    status          VARCHAR(255)     NOT NULL,
+    lat             DOUBLE PRECISION,
+    lng             DOUBLE PRECISION,
+    address         VARCHAR(255),
+    geo_cell        BIGINT,
+    created_by      BIGINT           NOT NULL,
+    accepted_worker BIGINT,
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6),
+    version         BIGINT           DEFAULT 0 NOT NULL,
+    CONSTRAINT fk_tasks_created_by FOREIGN KEY (created_by) REFERENCES users (id),
+    CONSTRAINT fk_tasks_accepted_worker FOREIGN KEY (accepted_worker) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS applications (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    task_id         BIGINT       NOT NULL,
+    worker_id       BIGINT       NOT NULL,
+    message         VARCHAR(500),
+    proposed_budget INTEGER,
+    status          VARCHAR(255),
+    applied_at      TIMESTAMP(6),
+    version         BIGINT       DEFAULT 0 NOT NULL,
+    CONSTRAINT fk_applications_task FOREIGN KEY (task_id) REFERENCES tasks (id),
+    CONSTRAINT fk_applications_worker FOREIGN KEY (worker_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS ratings (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    task_id    BIGINT       NOT NULL,
+    given_by   BIGINT       NOT NULL,
+    given_to   BIGINT       NOT NULL,
+    stars      INTEGER      NOT NULL,
+    review     VARCHAR(500),
+    created_at TIMESTAMP(6),
+    CONSTRAINT fk_ratings_task FOREIGN KEY (task_id) REFERENCES tasks (id),
+    CONSTRAINT fk_ratings_given_by FOREIGN KEY (given_by) REFERENCES users (id),
+    CONSTRAINT fk_ratings_given_to FOREIGN KEY (given_to) REFERENCES users (id)
+);
@@ -0,0 +1,32 @@
+-- One index per repository access path. Column order follows the WHERE equality
+-- columns first, then the ORDER BY of the query it serves.
+
+-- TaskService feed, filtered by status: WHERE status = ? ORDER BY created_at DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_tasks_status_created_at ON tasks (status, created_at DESC, id DESC);
+
+-- TaskService feed, unfiltered, and its keyset cursor
+CREATE INDEX IF NOT EXISTS idx_tasks_created_at ON tasks (created_at DESC, id DESC);
+
+-- TaskRepository.findByCreatedByOrderByCreatedAtDesc
+CREATE INDEX IF NOT EXISTS idx_tasks_created_by_created_at ON tasks (created_by, created_at DESC);
+
+-- TaskRepository.findInBoundingBox
+CREATE INDEX IF NOT EXISTS idx_tasks_geo_cell_status ON tasks (geo_cell, status);
+
+-- Foreign key lookups when a worker is deleted or listed
+CREATE INDEX IF NOT EXISTS idx_tasks_accepted_worker ON tasks (accepted_worker);
+
+-- ApplicationRepository.existsByTaskAndWorker / findByTask* / countByTaskIds / updateStatusExcept.
+-- Also enforces one application per worker per task.
+CREATE UNIQUE INDEX IF NOT EXISTS uk_applications_task_worker ON applications (task_id, worker_id);
+
+-- ApplicationRepository.findByWorker
+CREATE INDEX IF NOT EXISTS idx_applications_worker ON applications (worker_id);
+
+-- RatingRepository.existsByTaskAndGivenBy, one rating per rater per task
+CREATE UNIQUE INDEX IF NOT EXISTS uk_ratings_task_given_by ON ratings (task_id, given_by);
+
+-- RatingRepository.findRecentByGivenTo
+CREATE INDEX IF NOT EXISTS idx_ratings_given_to_created_at ON ratings (given_to, created_at DESC);
+
+CREATE INDEX IF NOT EXISTS idx_user_skills_user ON user_skills (user_id);
@@ -0,0 +1,13 @@
+-- Counter and rating columns were added with zero defaults; bring existing rows in line
+-- with the source tables once so the app can maintain them incrementally from here on.
+
+UPDATE users SET
+    tasks_posted = (SELECT COUNT(*) FROM tasks t WHERE t.created_by = users.id),
+    applications_sent = (SELECT COUNT(*) FROM applications a WHERE a.worker_id = users.id);
+
+UPDATE users SET
+    rating_sum = (SELECT COALESCE(SUM(r.stars), 0) FROM ratings r WHERE r.given_to = users.id),
+    rating_count = (SELECT COUNT(*) FROM ratings r WHERE r.given_to = users.id);
+
+UPDATE users SET rating = CAST(rating_sum AS DOUBLE PRECISION) / rating_count
+WHERE rating_count > 0;
@@ -0,0 +1,2 @@
+-- Profile revision used as the ETag for GET /users/{id}
+ALTER TABLE users ADD COLUMN revision BIGINT DEFAULT 0 NOT NULL;
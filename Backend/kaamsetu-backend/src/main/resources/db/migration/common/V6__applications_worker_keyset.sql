@@ -0,0 +1,3 @@
+-- TaskService.getAppliedTasks pages a worker's applications by id (keyset), newest first
+CREATE INDEX IF NOT EXISTS idx_applications_worker_id ON applications (worker_id, id DESC);
+DROP INDEX IF EXISTS idx_applications_worker;
@@ -0,0 +1,6 @@
+-- Tasks saved before geo_cell existed, or adopted from a pre-Flyway database, have no cell.
+-- Same cell numbering as GeoGrid.cellOf (0.1 degree cells, row-major from -90/-180).
+UPDATE tasks SET geo_cell =
+    LEAST(1799, GREATEST(0, CAST(FLOOR((lat + 90) / CAST(0.1 AS DOUBLE PRECISION)) AS BIGINT))) * 3600
+    + LEAST(3599, GREATEST(0, CAST(FLOOR((lng + 180) / CAST(0.1 AS DOUBLE PRECISION)) AS BIGINT)))
+WHERE geo_cell IS NULL AND lat IS NOT NULL AND lng IS NOT NULL;
@@ -0,0 +1,29 @@
+-- Runs once, when baseline-on-migrate adopts a database that ddl-auto=update created before
+-- Flyway, and before V1 onwards. Not a versioned migration on purpose: V2 and V3 need these
+-- columns and clean rows, and versioned migrations are never edited once released.
+
+-- CREATE TABLE IF NOT EXISTS in V1 skips the existing tables, so add the columns they lack
+ALTER TABLE users ADD COLUMN IF NOT EXISTS rating_sum BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS rating_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS tasks_posted INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS applications_sent INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS geo_cell BIGINT;
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE applications ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+
+-- Nothing stopped a worker applying twice before V2's unique index, so keep one per
+-- (task, worker): the accepted one if any, else the oldest.
+DELETE FROM applications a
+WHERE EXISTS (
+    SELECT 1 FROM applications b
+    WHERE b.task_id = a.task_id AND b.worker_id = a.worker_id AND b.id <> a.id
+      AND (CASE WHEN b.status = 'ACCEPTED' THEN 0 ELSE 1 END < CASE WHEN a.status = 'ACCEPTED' THEN 0 ELSE 1 END
+           OR (CASE WHEN b.status = 'ACCEPTED' THEN 0 ELSE 1 END = CASE WHEN a.status = 'ACCEPTED' THEN 0 ELSE 1 END
+               AND b.id < a.id)));
+
+-- Same for ratings: keep the first a rater gave for a task. V3 recomputes the rating
+-- counters from what is left.
+DELETE FROM ratings r
+WHERE EXISTS (
+    SELECT 1 FROM ratings o
+    WHERE o.task_id = r.task_id AND o.given_by = r.given_by AND o.id < r.id);
@@ -0,0 +1,11 @@
+-- Full-text search column used by PostgresTaskSearchService.
+-- 'simple' config: no stemming or stop words, so transliterated Hindi is indexed as typed.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B')) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_search_vector ON tasks USING GIN (search_vector);
+
+-- TaskSpecifications.hasCategory compares lower(category)
+CREATE INDEX IF NOT EXISTS idx_tasks_category_created_at ON tasks (lower(category), created_at DESC, id DESC);
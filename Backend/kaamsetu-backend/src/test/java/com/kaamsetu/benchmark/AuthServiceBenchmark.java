@@ -0,0 +1,44 @@
+package com.kaamsetu.benchmark;
+
+import com.kaamsetu.dto.LoginRequest;
+import com.kaamsetu.service.AuthService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end AuthService.login cost, dominated by the BCrypt verify.
+ * Uses a demo account created by DataSeeder.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthServiceBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private AuthService authService;
+    private LoginRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        authService = context.getBean(AuthService.class);
+        request = new LoginRequest();
+        request.setPhone("9876543210");
+        request.setPassword("password");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object login() {
+        return authService.login(request);
+    }
+}
@@ -0,0 +1,47 @@
+package com.kaamsetu.benchmark;
+
+import com.kaamsetu.KaamsetuApplication;
+import com.kaamsetu.seeder.SyntheticDataGenerator;
+import com.kaamsetu.service.InMemoryTaskSearchService;
+import com.kaamsetu.service.TaskSearchService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Boots the application on the in-memory H2 "test" profile and seeds it
+ * through SyntheticDataGenerator for benchmarks.
+ */
+final class BenchmarkContext {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(KaamsetuApplication.class)
+                .profiles("test")
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "spring.jpa.properties.hibernate.generate_statistics=false")
+                .properties(properties)
+                .run();
+    }
+
+    static void seed(ConfigurableApplicationContext context, int users, int tasks, int applicationsPerTask) {
+        new SyntheticDataGenerator(
+                context.getBean(JdbcTemplate.class),
+                context.getBean(PlatformTransactionManager.class),
+                context.getBean(BCryptPasswordEncoder.class)
+        ).generate(users, tasks, applicationsPerTask, BATCH_SIZE);
+
+        TaskSearchService search = context.getBean(TaskSearchService.class);
+        if (search instanceof InMemoryTaskSearchService inMemory) {
+            inMemory.rebuild();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.kaamsetu.benchmark;
+
+import com.kaamsetu.config.JwtService;
+import com.kaamsetu.config.VerifiedToken;
+import com.kaamsetu.entity.User;
+import com.kaamsetu.enums.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Per-request token cost in JwtAuthenticationFilter: the original
+ * three parse + HMAC passes (fresh key and parser each time) versus a
+ * single parseClaims call on the prebuilt parser.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-kaamsetu-backend-256-bits";
+    private static final long EXPIRATION_MS = 3_600_000;
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET, EXPIRATION_MS);
+        user = User.builder().phone("9876543210").role(Role.WORKER).build();
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean validatePerRequestLegacy() {
+        // extractUsername + isTokenValid(extractUsername, isTokenExpired) = 3 full parses
+        String phone = legacyClaim(Claims::getSubject);
+        return phone != null
+                && legacyClaim(Claims::getSubject).equals(user.getUsername())
+                && !legacyClaim(Claims::getExpiration).before(new Date());
+    }
+
+    @Benchmark
+    public boolean validatePerRequest() {
+        VerifiedToken verified = VerifiedToken.from(jwtService.parseClaims(token));
+        return verified.getSubject() != null && jwtService.isTokenValid(verified, user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    private <T> T legacyClaim(Function<Claims, T> resolver) {
+        Claims claims = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+        return resolver.apply(claims);
+    }
+}
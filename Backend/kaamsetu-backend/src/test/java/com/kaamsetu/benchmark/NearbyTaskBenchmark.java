@@ -0,0 +1,68 @@
+package com.kaamsetu.benchmark;
+
+import com.kaamsetu.service.TaskService;
+import com.kaamsetu.util.GeoGrid;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Nearby search through the geo_cell index and bounding box versus a full
+ * scan of open tasks with haversine computed in Java for every row.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+@State(Scope.Benchmark)
+public class NearbyTaskBenchmark {
+
+    private static final double LAT = 28.6139;   // central Delhi
+    private static final double LNG = 77.2090;
+    private static final double RADIUS_KM = 5;
+
+    @Param({"100000", "1000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        BenchmarkContext.seed(context, 1000, rows, 0);
+        taskService = context.getBean(TaskService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object gridIndexed() {
+        return taskService.getNearbyTasks(LAT, LNG, RADIUS_KM);
+    }
+
+    @Benchmark
+    public Object fullScan() {
+        List<double[]> matches = new ArrayList<>();
+        jdbcTemplate.query("SELECT id, lat, lng FROM tasks WHERE status = 'OPEN' AND lat IS NOT NULL",
+                rs -> {
+                    double distance = GeoGrid.distanceKm(LAT, LNG, rs.getDouble("lat"), rs.getDouble("lng"));
+                    if (distance <= RADIUS_KM) {
+                        matches.add(new double[]{rs.getLong("id"), distance});
+                    }
+                });
+        matches.sort(Comparator.comparingDouble(match -> match[1]));
+        return matches.subList(0, Math.min(50, matches.size()));
+    }
+}
@@ -0,0 +1,69 @@
+package com.kaamsetu.benchmark;
+
+import com.kaamsetu.repository.TaskRepository;
+import com.kaamsetu.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feed filtering and task mapping in TaskService against a seeded H2 database.
+ * Scale with -p tasks=100000.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskServiceBenchmark {
+
+    @Param({"1000", "10000"})
+    public int tasks;
+
+    @Param({"3"})
+    public int applicationsPerTask;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private Long sampleTaskId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        BenchmarkContext.seed(context, 1000, tasks, applicationsPerTask);
+        taskService = context.getBean(TaskService.class);
+        sampleTaskId = context.getBean(TaskRepository.class).findAll().get(tasks / 2).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object feedFirstPage() {
+        return taskService.getAllTasks(null, null, null, null, null, 20);
+    }
+
+    @Benchmark
+    public Object feedFiltered() {
+        return taskService.getAllTasks("plumbing", "URGENT", "OPEN", null, null, 20);
+    }
+
+    @Benchmark
+    public Object feedSearch() {
+        return taskService.getAllTasks(null, null, null, "leak", null, 20);
+    }
+
+    @Benchmark
+    public Object feedWithApplications() {
+        return taskService.getAllTasksWithApplications(null, null, null, null, null, 20);
+    }
+
+    @Benchmark
+    public Object taskDetail() {
+        return taskService.getTaskById(sampleTaskId);
+    }
+}
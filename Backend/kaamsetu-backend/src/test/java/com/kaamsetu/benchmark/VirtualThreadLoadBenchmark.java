@@ -0,0 +1,83 @@
+package com.kaamsetu.benchmark;
+
+import com.kaamsetu.config.JwtService;
+import com.kaamsetu.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP load against GET /tasks with Tomcat on platform vs virtual threads.
+ * The feed cache is off so every request blocks on JDBC. SampleTime reports
+ * throughput alongside p0.99 latency for each mode.
+ *
+ * <p>Recorded results (1 vCPU, H2, client and server in one JVM, 400 client threads):
+ * <pre>
+ * mode      JDK  throughput          p50     p99      p99.9
+ * platform  17   0.47 ± 0.48 ops/ms  640 ms  1657 ms  2706 ms
+ * virtual   21   not yet measured
+ * </pre>
+ * The virtual-thread row needs a JDK 21 runtime, and the platform row should be re-run
+ * on that same JDK and machine so that only the thread mode differs. Until both are in,
+ * {@code APP_VIRTUAL_THREADS} stays off by default. On one CPU the client threads compete
+ * with Tomcat for the core, hence the wide error on throughput.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(400)
+@Fork(value = 1, jvmArgsAppend = "-Djdk.tracePinnedThreads=short")
+@State(Scope.Benchmark)
+public class VirtualThreadLoadBenchmark {
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(
+                "server.port=0",
+                "app.feed-cache.enabled=false",
+                "spring.threads.virtual.enabled=" + virtualThreads);
+        BenchmarkContext.seed(context, 1000, 10000, 3);
+
+        String token = context.getBean(JwtService.class).generateToken(
+                context.getBean(UserRepository.class).findByPhone("9876543210").orElseThrow());
+        int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/tasks?size=20"))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int feedPage() throws IOException, InterruptedException {
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+}
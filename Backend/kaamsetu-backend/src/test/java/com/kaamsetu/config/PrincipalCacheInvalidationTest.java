@@ -0,0 +1,67 @@
+package com.kaamsetu.config;
+
+import com.kaamsetu.dto.ApplicationRequest;
+import com.kaamsetu.entity.Task;
+import com.kaamsetu.entity.User;
+import com.kaamsetu.enums.Role;
+import com.kaamsetu.service.TaskService;
+import com.kaamsetu.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Counter, rating and password updates are bulk JPQL and never reach @PostUpdate
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+class PrincipalCacheInvalidationTest {
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserDetailsPasswordService userDetailsPasswordService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void counterUpdateEvictsCachedPrincipal() {
+        User worker = fixtures.saveUser(Role.WORKER);
+        Task task = fixtures.saveTask(fixtures.saveUser(Role.SEEKER), "qc-principal");
+        principalCache.get(worker.getPhone(), phone -> worker);
+
+        taskService.applyForTask(task.getId(), new ApplicationRequest(), worker);
+
+        assertThat(loadsOf(worker)).isEqualTo(1);
+    }
+
+    @Test
+    void passwordRehashEvictsCachedPrincipal() {
+        User user = fixtures.saveUser(Role.SEEKER);
+        principalCache.get(user.getPhone(), phone -> user);
+
+        userDetailsPasswordService.updatePassword(user, "rehashed");
+
+        assertThat(loadsOf(user)).isEqualTo(1);
+    }
+
+    private int loadsOf(User user) {
+        AtomicInteger loads = new AtomicInteger();
+        principalCache.get(user.getPhone(), phone -> {
+            loads.incrementAndGet();
+            return user;
+        });
+        return loads.get();
+    }
+}
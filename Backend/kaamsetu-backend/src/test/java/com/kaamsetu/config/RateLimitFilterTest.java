@@ -0,0 +1,115 @@
+package com.kaamsetu.config;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Real Tomcat: client addresses are resolved by the RemoteIpValve, which MockMvc bypasses
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class RateLimitFilterTest {
+
+    private static final int LOGIN_IP_CAPACITY = 60;
+    private static final int LOGIN_PHONE_IP_CAPACITY = 5;
+    private static final int LOGIN_PHONE_CAPACITY = 20;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    // Buckets never refill, however long the round trips take
+    @TestConfiguration
+    static class FrozenClock {
+
+        @Bean
+        Ticker rateLimitTicker() {
+            return () -> 0L;
+        }
+    }
+
+    @Test
+    void oversizedLoginBodyIsRejectedInsteadOfSkippingThePhoneLimit() {
+        String padded = "{\"phone\":\"9000000099\",\"password\":\"x\",\"pad\":\"" + "a".repeat(20_000) + "\"}";
+
+        ResponseEntity<String> response = login(padded, "198.51.100.10");
+
+        assertThat(response.getStatusCode().value()).isEqualTo(413);
+    }
+
+    @Test
+    void phoneLimitIsPerClientSoOthersCannotLockTheOwnerOut() {
+        // Numeric phone, no password: the phone rules count it, then validation answers 400
+        String body = "{\"phone\":9000000098}";
+        for (int i = 0; i < LOGIN_PHONE_IP_CAPACITY; i++) {
+            assertThat(login(body, "198.51.100.20").getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+
+        assertThat(login(body, "198.51.100.20").getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        // The owner on their own connection is unaffected
+        assertThat(login(body, "198.51.100.21").getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void loosePhoneLimitStillCapsAttemptsSpreadAcrossAddresses() {
+        String body = "{\"phone\":\"9000000097\"}";
+        for (int i = 0; i < LOGIN_PHONE_CAPACITY; i++) {
+            String address = "198.51.100." + (100 + i / LOGIN_PHONE_IP_CAPACITY);
+            assertThat(login(body, address).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+
+        assertThat(login(body, "198.51.100.200").getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    void attemptsRefusedByThePhoneLimitDoNotSpendTheIpBudget() {
+        String body = "{\"phone\":\"9000000096\"}";
+        for (int i = 0; i < LOGIN_PHONE_IP_CAPACITY; i++) {
+            assertThat(login(body, "198.51.100.30").getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+        for (int i = 0; i < 10; i++) {
+            assertThat(login(body, "198.51.100.30").getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        }
+
+        // Only the attempts that got through count against the address
+        for (int i = LOGIN_PHONE_IP_CAPACITY; i < LOGIN_IP_CAPACITY; i++) {
+            assertThat(login("{}", "198.51.100.30").getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+        assertThat(login("{}", "198.51.100.30").getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    void perIpLimitKeysOnForwardedClientAddress() {
+        // Invalid bodies still pass through the IP rule but stop at validation, before BCrypt
+        for (int i = 0; i < LOGIN_IP_CAPACITY; i++) {
+            assertThat(login("{}", "198.51.100.1").getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+
+        ResponseEntity<String> limited = login("{}", "198.51.100.1");
+        assertThat(limited.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(limited.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isNotNull();
+
+        // Another client behind the same proxy has its own bucket
+        assertThat(login("{}", "198.51.100.2").getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        // A client-supplied hop to the left of the real one is ignored
+        assertThat(login("{}", "203.0.113.7, 198.51.100.1").getStatusCode())
+                .isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    private ResponseEntity<String> login(String body, String forwardedFor) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("X-Forwarded-For", forwardedFor);
+        return restTemplate.postForEntity("/auth/login", new HttpEntity<>(body, headers), String.class);
+    }
+}
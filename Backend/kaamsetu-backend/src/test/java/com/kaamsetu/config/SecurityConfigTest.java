@@ -0,0 +1,42 @@
+package com.kaamsetu.config;
+
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Async dispatches carry no JWT; only the feed stream's re-dispatch may skip authorization
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SecurityConfigTest {
+
+    private static final RequestPostProcessor ASYNC_DISPATCH = request -> {
+        request.setDispatcherType(DispatcherType.ASYNC);
+        return request;
+    };
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void feedStreamAsyncDispatchIsPermitted() throws Exception {
+        mockMvc.perform(get("/tasks/stream").with(ASYNC_DISPATCH))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void otherAsyncDispatchesStillRequireAuthentication() throws Exception {
+        mockMvc.perform(get("/tasks").with(ASYNC_DISPATCH))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/users/1").with(ASYNC_DISPATCH))
+                .andExpect(status().isForbidden());
+    }
+}
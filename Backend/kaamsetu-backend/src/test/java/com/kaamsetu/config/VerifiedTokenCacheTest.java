@@ -0,0 +1,84 @@
+package com.kaamsetu.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET = "test-secret-key-for-kaamsetu-backend-at-least-256-bits";
+    private static final UserDetails USER = User.withUsername("9876543210").password("x").build();
+
+    private final JwtService jwtService = new JwtService(SECRET, 86_400_000);
+    private final AtomicInteger verifications = new AtomicInteger();
+    private final Function<String, Claims> verifier = token -> {
+        verifications.incrementAndGet();
+        return jwtService.parseClaims(token);
+    };
+
+    @Test
+    void repeatedTokenIsVerifiedOnce() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100, Duration.ofMinutes(10));
+        String token = jwtService.generateToken(USER);
+
+        VerifiedToken first = cache.verify(token, verifier);
+        VerifiedToken second = cache.verify(token, verifier);
+
+        assertThat(verifications).hasValue(1);
+        assertThat(second.getSubject()).isEqualTo(first.getSubject()).isEqualTo("9876543210");
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void tokenSignedWithAnotherKeyIsRejectedAndNotCached() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100, Duration.ofMinutes(10));
+        cache.verify(jwtService.generateToken(USER), verifier);
+        String forged = new JwtService(SECRET.replace('t', 'x'), 86_400_000).generateToken(USER);
+
+        assertThatThrownBy(() -> cache.verify(forged, verifier)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> cache.verify(forged, verifier)).isInstanceOf(JwtException.class);
+        assertThat(verifications).hasValue(3);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void expiredTokenIsNotServedFromCache() throws InterruptedException {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100, Duration.ofMinutes(10));
+        JwtService shortLived = new JwtService(SECRET, 2_000);
+        String token = shortLived.generateToken(USER);
+        Function<String, Claims> shortLivedVerifier = candidate -> {
+            verifications.incrementAndGet();
+            return shortLived.parseClaims(candidate);
+        };
+
+        VerifiedToken verified = cache.verify(token, shortLivedVerifier);
+        // exp has second precision, so wait for the claim itself rather than a fixed second
+        Thread.sleep(Math.max(0, verified.getExpiresAtMillis() - System.currentTimeMillis()) + 50);
+
+        assertThatThrownBy(() -> cache.verify(token, shortLivedVerifier))
+                .isInstanceOf(ExpiredJwtException.class);
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    void disabledCacheVerifiesEveryTime() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(false, 100, Duration.ofMinutes(10));
+        String token = jwtService.generateToken(USER);
+
+        cache.verify(token, verifier);
+        cache.verify(token, verifier);
+
+        assertThat(verifications).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+}
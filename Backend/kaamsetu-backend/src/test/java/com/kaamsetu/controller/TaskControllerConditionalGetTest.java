@@ -0,0 +1,103 @@
+package com.kaamsetu.controller;
+
+import com.kaamsetu.config.JwtService;
+import com.kaamsetu.entity.Task;
+import com.kaamsetu.entity.User;
+import com.kaamsetu.enums.Role;
+import com.kaamsetu.repository.UserRepository;
+import com.kaamsetu.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+class TaskControllerConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private User owner;
+    private User worker;
+    private Task task;
+    private String bearer;
+
+    @BeforeEach
+    void setUp() {
+        owner = fixtures.saveUser(Role.SEEKER);
+        worker = fixtures.saveUser(Role.WORKER);
+        task = fixtures.saveTask(owner, "qc-etag");
+        fixtures.saveApplication(task, worker);
+        bearer = "Bearer " + jwtService.generateToken(owner);
+    }
+
+    @Test
+    void unchangedTaskRevalidatesWithNotModified() throws Exception {
+        String etag = fetch(null).getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/tasks/{id}", task.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void applicantRenameInvalidatesTheTaskEtag() throws Exception {
+        String etag = fetch(null).getResponse().getHeader(HttpHeaders.ETAG);
+
+        worker.setName("Renamed worker");
+        userRepository.save(worker);
+
+        MvcResult result = fetch(etag);
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+        assertThat(result.getResponse().getContentAsString()).contains("Renamed worker");
+    }
+
+    @Test
+    void ratingThroughBulkUpdateInvalidatesTheTaskEtag() throws Exception {
+        String etag = fetch(null).getResponse().getHeader(HttpHeaders.ETAG);
+
+        transactionTemplate.executeWithoutResult(status -> userRepository.addRating(worker.getId(), 5));
+
+        mockMvc.perform(get("/tasks/{id}", task.getId())
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.applications[0].workerRating").value(5.0));
+    }
+
+    private MvcResult fetch(String ifNoneMatch) throws Exception {
+        var request = get("/tasks/{id}", task.getId()).header(HttpHeaders.AUTHORIZATION, bearer);
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return mockMvc.perform(request).andExpect(status().isOk()).andReturn();
+    }
+}
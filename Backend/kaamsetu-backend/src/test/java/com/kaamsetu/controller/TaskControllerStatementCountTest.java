@@ -0,0 +1,85 @@
+package com.kaamsetu.controller;
+
+import com.kaamsetu.config.JwtService;
+import com.kaamsetu.entity.Task;
+import com.kaamsetu.entity.User;
+import com.kaamsetu.enums.Role;
+import com.kaamsetu.support.ExpectedStatementCount;
+import com.kaamsetu.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+class TaskControllerStatementCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    @ExpectedStatementCount(1)
+    void appliedTasksPageIsOneStatementPerCall() throws Exception {
+        User owner = fixtures.saveUser(Role.SEEKER);
+        User worker = fixtures.saveUser(Role.WORKER);
+        for (int i = 0; i < 15; i++) {
+            Task task = fixtures.saveTask(owner, "qc-controller");
+            fixtures.saveApplication(task, worker);
+            fixtures.saveApplication(task, fixtures.saveUser(Role.WORKER));
+        }
+        String bearer = "Bearer " + jwtService.generateToken(worker);
+
+        // First call also loads the principal; the asserted second call hits the principal cache
+        for (int call = 0; call < 2; call++) {
+            mockMvc.perform(get("/tasks/applied/{userId}", worker.getId())
+                            .param("size", "10")
+                            .header(HttpHeaders.AUTHORIZATION, bearer))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items.length()").value(10));
+        }
+    }
+
+    @Test
+    @ExpectedStatementCount(1)
+    void feedPageIsOneStatementWhateverTheNumberOfUsers() throws Exception {
+        String category = "qc-feed-" + UUID.randomUUID();
+        User viewer = fixtures.saveUser(Role.WORKER, "plumbing");
+        // Every task has its own owner with skills and an applicant, so per-user loads would show
+        for (int i = 0; i < 15; i++) {
+            Task task = fixtures.saveTask(fixtures.saveUser(Role.SEEKER, "cleaning", "shifting"), category);
+            fixtures.saveApplication(task, fixtures.saveUser(Role.WORKER, "painting"));
+        }
+        String bearer = "Bearer " + jwtService.generateToken(viewer);
+
+        // Different sizes so the feed cache can't answer the asserted call; the first warms the principal
+        for (int size : new int[]{5, 12}) {
+            mockMvc.perform(get("/tasks")
+                            .param("category", category)
+                            .param("size", String.valueOf(size))
+                            .header(HttpHeaders.AUTHORIZATION, bearer))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items.length()").value(size))
+                    .andExpect(jsonPath("$.items[0].applicationCount").value(1))
+                    .andExpect(jsonPath("$.items[0].createdByName").value("Fixture SEEKER"));
+        }
+    }
+}
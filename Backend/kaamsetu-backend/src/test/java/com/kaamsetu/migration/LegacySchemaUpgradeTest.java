@@ -0,0 +1,105 @@
+package com.kaamsetu.migration;
+
+import com.kaamsetu.util.GeoGrid;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Migrates a database shaped like the one ddl-auto=update produced before Flyway,
+ * i.e. only the baseline entity columns, with the same settings as application.properties.
+ */
+class LegacySchemaUpgradeTest {
+
+    @Test
+    void migratesBaselineSchemaDedupesAndBackfillsNewColumns() throws SQLException {
+        String url = "jdbc:h2:mem:legacy-" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            createLegacySchema(statement);
+            statement.execute("INSERT INTO users (id, name, phone, password, role, rating, tasks_completed) "
+                    + "VALUES (1, 'Owner', '9000000001', 'x', 'SEEKER', 0, 0), "
+                    + "(2, 'Worker', '9000000002', 'x', 'WORKER', 0, 1)");
+            statement.execute("INSERT INTO tasks (id, title, description, category, budget, urgency, status, "
+                    + "lat, lng, created_by, accepted_worker) "
+                    + "VALUES (1, 'Fix tap', 'Leaking', 'plumbing', 300, 'NORMAL', 'COMPLETED', 28.6139, 77.2090, 1, 2)");
+            // Duplicates the new unique indexes would reject; the accepted application has a later id
+            statement.execute("INSERT INTO applications (id, task_id, worker_id, status) "
+                    + "VALUES (1, 1, 2, 'REJECTED'), (2, 1, 2, 'ACCEPTED'), (3, 1, 2, 'PENDING')");
+            statement.execute("INSERT INTO ratings (id, task_id, given_by, given_to, stars) "
+                    + "VALUES (1, 1, 1, 2, 4), (2, 1, 1, 2, 1)");
+
+            Flyway.configure()
+                    .dataSource(url, "sa", "")
+                    .locations("classpath:db/migration/common")
+                    .baselineOnMigrate(true)
+                    .baselineVersion("0")
+                    .load()
+                    .migrate();
+
+            try (ResultSet owner = statement.executeQuery(
+                    "SELECT tasks_posted, applications_sent, rating_count, revision FROM users WHERE id = 1")) {
+                owner.next();
+                assertThat(owner.getInt("tasks_posted")).isEqualTo(1);
+                assertThat(owner.getInt("applications_sent")).isZero();
+                assertThat(owner.getInt("rating_count")).isZero();
+                assertThat(owner.getLong("revision")).isZero();
+            }
+            try (ResultSet worker = statement.executeQuery(
+                    "SELECT applications_sent, rating_sum, rating_count, rating FROM users WHERE id = 2")) {
+                worker.next();
+                assertThat(worker.getInt("applications_sent")).isEqualTo(1);
+                assertThat(worker.getLong("rating_sum")).isEqualTo(4);
+                assertThat(worker.getInt("rating_count")).isEqualTo(1);
+                assertThat(worker.getDouble("rating")).isEqualTo(4.0);
+            }
+            try (ResultSet task = statement.executeQuery("SELECT geo_cell, version FROM tasks WHERE id = 1")) {
+                task.next();
+                assertThat(task.getLong("geo_cell")).isEqualTo(GeoGrid.cellOf(28.6139, 77.2090));
+                assertThat(task.getLong("version")).isZero();
+            }
+            try (ResultSet application = statement.executeQuery("SELECT id, status, version FROM applications")) {
+                application.next();
+                assertThat(application.getLong("id")).isEqualTo(2);
+                assertThat(application.getString("status")).isEqualTo("ACCEPTED");
+                assertThat(application.getLong("version")).isZero();
+                assertThat(application.next()).isFalse();
+            }
+            try (ResultSet rating = statement.executeQuery("SELECT id FROM ratings")) {
+                rating.next();
+                assertThat(rating.getLong("id")).isEqualTo(1);
+                assertThat(rating.next()).isFalse();
+            }
+        }
+    }
+
+    // Tables as generated from the baseline entities, before any column added by this series
+    private static void createLegacySchema(Statement statement) throws SQLException {
+        statement.execute("CREATE TABLE users (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "name VARCHAR(255) NOT NULL, phone VARCHAR(255) NOT NULL UNIQUE, password VARCHAR(255) NOT NULL, "
+                + "role VARCHAR(255) NOT NULL, rating DOUBLE PRECISION, tasks_completed INTEGER, "
+                + "latitude DOUBLE PRECISION, longitude DOUBLE PRECISION, created_at TIMESTAMP(6))");
+        statement.execute("CREATE TABLE user_skills (user_id BIGINT NOT NULL REFERENCES users (id), skill VARCHAR(255))");
+        statement.execute("CREATE TABLE tasks (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "title VARCHAR(255) NOT NULL, description VARCHAR(1000) NOT NULL, category VARCHAR(255) NOT NULL, "
+                + "budget INTEGER NOT NULL, urgency VARCHAR(255) NOT NULL, status VARCHAR(255) NOT NULL, "
+                + "lat DOUBLE PRECISION, lng DOUBLE PRECISION, address VARCHAR(255), "
+                + "created_by BIGINT NOT NULL REFERENCES users (id), accepted_worker BIGINT REFERENCES users (id), "
+                + "created_at TIMESTAMP(6), updated_at TIMESTAMP(6))");
+        statement.execute("CREATE TABLE applications (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "task_id BIGINT NOT NULL REFERENCES tasks (id), worker_id BIGINT NOT NULL REFERENCES users (id), "
+                + "message VARCHAR(500), proposed_budget INTEGER, status VARCHAR(255), applied_at TIMESTAMP(6))");
+        statement.execute("CREATE TABLE ratings (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "task_id BIGINT NOT NULL REFERENCES tasks (id), given_by BIGINT NOT NULL REFERENCES users (id), "
+                + "given_to BIGINT NOT NULL REFERENCES users (id), stars INTEGER NOT NULL, review VARCHAR(500), "
+                + "created_at TIMESTAMP(6))");
+    }
+}
@@ -0,0 +1,131 @@
+package com.kaamsetu.service;
+
+import com.kaamsetu.config.PasswordHasher;
+import com.kaamsetu.dto.LoginRequest;
+import com.kaamsetu.entity.User;
+import com.kaamsetu.enums.Role;
+import com.kaamsetu.exception.TooManyRequestsException;
+import com.kaamsetu.repository.UserRepository;
+import com.kaamsetu.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+// One hashing thread and one queue slot, so two blocked hashes saturate the pool
+@SpringBootTest(properties = {
+        "app.security.password-hashing.threads=1",
+        "app.security.password-hashing.queue-capacity=1"
+})
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+class AuthServiceTest {
+
+    private static final String PASSWORD = "secret-123";
+    // Raw password whose check parks on the latch, holding the hashing thread
+    private static final String HOLD = "hold";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @SpyBean
+    private BCryptPasswordEncoder encoder;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void holdOnLatch() {
+        doAnswer(invocation -> {
+            if (HOLD.contentEquals(invocation.<CharSequence>getArgument(0))) {
+                release.await(30, TimeUnit.SECONDS);
+            }
+            return invocation.callRealMethod();
+        }).when(encoder).matches(any(), any());
+    }
+
+    @Test
+    void loginRehashesPasswordStoredAtAnotherCost() {
+        User user = userWithPassword(new BCryptPasswordEncoder(4).encode(PASSWORD));
+
+        authService.login(login(user));
+
+        User reloaded = userRepository.findById(user.getId()).orElseThrow();
+        assertThat(reloaded.getPassword()).startsWith("$2a$10$");
+        assertThat(passwordHasher.matches(PASSWORD, reloaded.getPassword())).isTrue();
+        assertThat(passwordHasher.upgradeEncoding(reloaded.getPassword())).isFalse();
+    }
+
+    @Test
+    void saturatedPoolRejectsLoginWithoutRehashing() throws Exception {
+        // Warms the provider's one-off timing-attack hash so it cannot hit the full pool
+        authService.login(login(userWithPassword(passwordHasher.encode(PASSWORD))));
+        String legacyHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        User user = userWithPassword(legacyHash);
+
+        String holdHash = new BCryptPasswordEncoder(4).encode(HOLD);
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> passwordHasher.matches(HOLD, holdHash));
+        awaitPool(1, 0);
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> passwordHasher.matches(HOLD, holdHash));
+        awaitPool(1, 1);
+        int rejectedBefore = passwordHasher.rejectedCount();
+
+        try {
+            assertThatThrownBy(() -> authService.login(login(user)))
+                    .isInstanceOf(TooManyRequestsException.class);
+            assertThat(passwordHasher.rejectedCount()).isEqualTo(rejectedBefore + 1);
+            assertThat(userRepository.findById(user.getId()).orElseThrow().getPassword()).isEqualTo(legacyHash);
+        } finally {
+            release.countDown();
+        }
+        assertThat(running.get(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(30, TimeUnit.SECONDS)).isTrue();
+
+        // Once the pool drains the same login goes through and upgrades the hash
+        authService.login(login(user));
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getPassword()).startsWith("$2a$10$");
+    }
+
+    private User userWithPassword(String hash) {
+        User user = fixtures.saveUser(Role.WORKER);
+        userRepository.updatePassword(user.getId(), hash);
+        return user;
+    }
+
+    private static LoginRequest login(User user) {
+        LoginRequest request = new LoginRequest();
+        request.setPhone(user.getPhone());
+        request.setPassword(PASSWORD);
+        return request;
+    }
+
+    private void awaitPool(int active, int queued) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (passwordHasher.activeCount() != active || passwordHasher.queueDepth() != queued) {
+            assertThat(System.nanoTime()).as("hashing pool never reached %d active / %d queued", active, queued)
+                    .isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.kaamsetu.service;
+
+import com.kaamsetu.dto.CursorPageResponse;
+import com.kaamsetu.dto.TaskSummaryResponse;
+import com.kaamsetu.entity.Task;
+import com.kaamsetu.entity.User;
+import com.kaamsetu.enums.Role;
+import com.kaamsetu.enums.UrgencyLevel;
+import com.kaamsetu.repository.TaskRepository;
+import com.kaamsetu.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+class FeedSearchTest {
+
+    // More than the 1000 ranked candidates the feed used to be capped at
+    private static final int MATCHES = 1_050;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskSearchService taskSearchService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void searchFeedPagesThroughEveryMatch() {
+        String token = "zq" + UUID.randomUUID().toString().replace("-", "").substring(0, 10);
+        User owner = fixtures.saveUser(Role.SEEKER);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < MATCHES; i++) {
+            tasks.add(Task.builder()
+                    .title("Paint wall " + token)
+                    .description("Search fixture")
+                    .category("qc-search")
+                    .budget(100)
+                    .urgency(UrgencyLevel.NORMAL)
+                    .createdBy(owner)
+                    .build());
+        }
+        taskRepository.saveAll(tasks).forEach(taskSearchService::index);
+
+        Set<Long> seen = new HashSet<>();
+        String cursor = null;
+        do {
+            CursorPageResponse<TaskSummaryResponse> page =
+                    taskService.getAllTasks(null, null, null, token, cursor, 100);
+            page.getItems().forEach(task -> seen.add(task.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(MATCHES);
+    }
+
+    @Test
+    void feedFilterMatchesTermsWhereTheIndexDoes() {
+        String category = "qc-" + UUID.randomUUID();
+        User owner = fixtures.saveUser(Role.SEEKER);
+        Task hyphenated = saveTask(owner, category, "Wall-painting job", "Two rooms");
+        Task inDescription = saveTask(owner, category, "Gate", "Needs PAINT badly");
+        Task midWord = saveTask(owner, category, "Repaint the gate", "Rusty");
+        saveTask(owner, category, "Fence", "Nothing to do");
+        Set<Long> created = Set.of(hyphenated.getId(), inDescription.getId(), midWord.getId());
+
+        for (String query : List.of("paint", "wall pai", "gate", "repaint")) {
+            Set<Long> feed = new HashSet<>();
+            taskService.getAllTasks(category, null, null, query, null, 100)
+                    .getItems().forEach(task -> feed.add(task.getId()));
+            Set<Long> indexed = new HashSet<>(taskSearchService.search(query, Integer.MAX_VALUE));
+            indexed.retainAll(created);
+
+            assertThat(feed).as(query).isEqualTo(indexed);
+        }
+        assertThat(taskService.getAllTasks(category, null, null, "paint", null, 100).getItems())
+                .extracting(TaskSummaryResponse::getId)
+                .containsExactlyInAnyOrder(hyphenated.getId(), inDescription.getId());
+    }
+
+    private Task saveTask(User owner, String category, String title, String description) {
+        Task task = taskRepository.save(Task.builder()
+                .title(title)
+                .description(description)
+                .category(category)
+                .budget(100)
+                .urgency(UrgencyLevel.NORMAL)
+                .createdBy(owner)
+                .build());
+        taskSearchService.index(task);
+        return task;
+    }
+}
@@ -0,0 +1,102 @@
+package com.kaamsetu.service;
+
+import com.kaamsetu.dto.TaskSummaryResponse;
+import com.kaamsetu.entity.Task;
+import com.kaamsetu.entity.User;
+import com.kaamsetu.enums.Role;
+import com.kaamsetu.enums.TaskStatus;
+import com.kaamsetu.exception.BadRequestException;
+import com.kaamsetu.repository.TaskRepository;
+import com.kaamsetu.support.TestFixtures;
+import com.kaamsetu.util.GeoGrid;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+// Origins sit in open ocean so tasks from other tests never fall inside the radius
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+class NearbyTasksTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void returnsOpenTasksWithinRadiusNearestFirst() {
+        double lat = 10.05;
+        double lng = -150.05;
+        User owner = fixtures.saveUser(Role.SEEKER);
+        // Neighbouring grid cell, so the bounding box has to cover more than the origin's cell
+        Task acrossCell = fixtures.saveTask(owner, "nearby", 10.05, -149.99);
+        Task closest = fixtures.saveTask(owner, "nearby", 10.06, -150.04);
+        fixtures.saveTask(owner, "nearby", 10.25, -150.05);
+        Task accepted = fixtures.saveTask(owner, "nearby", 10.05, -150.05);
+        accepted.setStatus(TaskStatus.ACCEPTED);
+        taskRepository.save(accepted);
+
+        List<TaskSummaryResponse> nearby = taskService.getNearbyTasks(lat, lng, 10.0);
+
+        assertThat(nearby).extracting(TaskSummaryResponse::getId)
+                .containsExactly(closest.getId(), acrossCell.getId());
+        assertThat(nearby.get(0).getDistanceKm())
+                .isCloseTo(GeoGrid.distanceKm(lat, lng, 10.06, -150.04), within(1e-9));
+        assertThat(nearby.get(1).getDistanceKm())
+                .isCloseTo(GeoGrid.distanceKm(lat, lng, 10.05, -149.99), within(1e-9))
+                .isLessThanOrEqualTo(10.0);
+    }
+
+    @Test
+    void loadsTaskEntitiesOnlyForTheNearestFifty() {
+        User owner = fixtures.saveUser(Role.SEEKER);
+        for (int i = 0; i < 80; i++) {
+            fixtures.saveTask(owner, "nearby", 20.0 + i * 0.0005, 170.0);
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        List<TaskSummaryResponse> nearby = taskService.getNearbyTasks(20.0, 170.0, 10.0);
+
+        assertThat(nearby).hasSize(50);
+        assertThat(nearby).extracting(TaskSummaryResponse::getDistanceKm).isSorted();
+        // The 50 tasks plus their shared owner; the other 30 candidates stay scalar rows
+        assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(51);
+    }
+
+    @Test
+    void defaultsToFiveKilometres() {
+        User owner = fixtures.saveUser(Role.SEEKER);
+        Task inside = fixtures.saveTask(owner, "nearby", -40.02, -120.0);
+        fixtures.saveTask(owner, "nearby", -40.08, -120.0);
+
+        assertThat(taskService.getNearbyTasks(-40.0, -120.0, null))
+                .extracting(TaskSummaryResponse::getId)
+                .containsExactly(inside.getId());
+    }
+
+    @Test
+    void rejectsCoordinatesOutOfRange() {
+        assertThatThrownBy(() -> taskService.getNearbyTasks(91, 0, 5.0))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
@@ -0,0 +1,120 @@
+package com.kaamsetu.service;
+
+import com.kaamsetu.dto.TaskSummaryResponse;
+import com.kaamsetu.entity.Task;
+import com.kaamsetu.entity.User;
+import com.kaamsetu.enums.Role;
+import com.kaamsetu.enums.TaskStatus;
+import com.kaamsetu.enums.UrgencyLevel;
+import com.kaamsetu.repository.TaskRepository;
+import com.kaamsetu.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Fixtures write through repositories without events, like changes made on another instance
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+class OpenTaskIndexTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private OpenTaskIndex openTaskIndex;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void taskClosedElsewhereIsNotRecommendedAndLeavesTheIndex() {
+        String category = "rec-" + UUID.randomUUID();
+        User owner = fixtures.saveUser(Role.SEEKER);
+        User worker = fixtures.saveUser(Role.WORKER, category);
+        Task open = fixtures.saveTask(owner, category);
+        Task closed = fixtures.saveTask(owner, category);
+        openTaskIndex.rebuild();
+        assertThat(indexed(category, worker)).contains(open.getId(), closed.getId());
+
+        closed.setStatus(TaskStatus.ACCEPTED);
+        taskRepository.save(closed);
+
+        List<TaskSummaryResponse> recommended = taskService.getRecommendedTasks(worker, null, null, 10);
+
+        assertThat(recommended).extracting(TaskSummaryResponse::getId)
+                .startsWith(open.getId()).doesNotContain(closed.getId());
+        assertThat(indexed(category, worker)).startsWith(open.getId()).doesNotContain(closed.getId());
+    }
+
+    @Test
+    void rebuildPicksUpTasksCreatedElsewhere() {
+        String category = "rec-" + UUID.randomUUID();
+        User owner = fixtures.saveUser(Role.SEEKER);
+        User worker = fixtures.saveUser(Role.WORKER, category);
+        openTaskIndex.rebuild();
+        Task task = fixtures.saveTask(owner, category);
+        assertThat(taskService.getRecommendedTasks(worker, null, null, 10))
+                .extracting(TaskSummaryResponse::getId).doesNotContain(task.getId());
+
+        openTaskIndex.rebuild();
+
+        assertThat(taskService.getRecommendedTasks(worker, null, null, 10))
+                .extracting(TaskSummaryResponse::getId).startsWith(task.getId());
+    }
+
+    // Nothing else is indexed within 50 km of these mid-ocean points; tasks without a location trail
+    @Test
+    void skillMatchOutranksACloserTaskInAnotherCategory() {
+        String category = "rec-" + UUID.randomUUID();
+        User owner = fixtures.saveUser(Role.SEEKER);
+        User worker = fixtures.saveUser(Role.WORKER, category);
+        Task far = fixtures.saveTask(owner, category, 20.2, -140.0);
+        Task near = fixtures.saveTask(owner, category, 20.01, -140.0);
+        Task other = fixtures.saveTask(owner, "other-" + category, 20.0, -140.0);
+        openTaskIndex.rebuild();
+
+        List<OpenTaskIndex.Match> matches = openTaskIndex.recommend(
+                List.of(category), worker.getId(), Set.of(), 20.0, -140.0, 10);
+
+        assertThat(matches).extracting(OpenTaskIndex.Match::taskId)
+                .startsWith(near.getId(), far.getId(), other.getId());
+    }
+
+    @Test
+    void workerWithoutMatchingSkillsGetsEveryCategoryByDistanceAlone() {
+        User owner = fixtures.saveUser(Role.SEEKER);
+        User worker = fixtures.saveUser(Role.WORKER);
+        Task near = fixtures.saveTask(owner, "rec-" + UUID.randomUUID(), -30.01, 100.0);
+        // Urgency and budget would put this one first if they counted
+        Task far = fixtures.saveTask(owner, "rec-" + UUID.randomUUID(), -30.1, 100.0);
+        far.setUrgency(UrgencyLevel.EMERGENCY);
+        far.setBudget(5000);
+        taskRepository.save(far);
+        openTaskIndex.rebuild();
+
+        for (List<String> skills : List.of(List.<String>of(), List.of("rec-" + UUID.randomUUID()))) {
+            List<OpenTaskIndex.Match> matches = openTaskIndex.recommend(
+                    skills, worker.getId(), Set.of(), -30.0, 100.0, 10);
+
+            assertThat(matches).extracting(OpenTaskIndex.Match::taskId).startsWith(near.getId(), far.getId());
+        }
+    }
+
+    private List<Long> indexed(String category, User worker) {
+        return openTaskIndex.recommend(List.of(category), worker.getId(), Set.of(), null, null, 10).stream()
+                .map(OpenTaskIndex.Match::taskId)
+                .toList();
+    }
+}
@@ -0,0 +1,117 @@
+package com.kaamsetu.service;
+
+import com.kaamsetu.dto.RatingRequest;
+import com.kaamsetu.entity.Application;
+import com.kaamsetu.entity.Task;
+import com.kaamsetu.entity.User;
+import com.kaamsetu.enums.Role;
+import com.kaamsetu.exception.BadRequestException;
+import com.kaamsetu.exception.ConflictException;
+import com.kaamsetu.repository.UserRepository;
+import com.kaamsetu.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+class RatingServiceTest {
+
+    @Autowired
+    private RatingService ratingService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void taskCanOnlyBeRatedOnceCompleted() {
+        User owner = fixtures.saveUser(Role.SEEKER);
+        User worker = fixtures.saveUser(Role.WORKER);
+        Task task = acceptedTask(owner, worker);
+
+        assertThatThrownBy(() -> ratingService.rateTask(task.getId(), stars(5), owner))
+                .isInstanceOf(BadRequestException.class);
+
+        taskService.completeTask(task.getId(), owner);
+        ratingService.rateTask(task.getId(), stars(5), owner);
+
+        User rated = userRepository.findById(worker.getId()).orElseThrow();
+        assertThat(rated.getRatingCount()).isEqualTo(1);
+        assertThat(rated.getRating()).isEqualTo(5.0);
+    }
+
+    @Test
+    void secondRatingOfTheSameTaskIsRejected() {
+        User owner = fixtures.saveUser(Role.SEEKER);
+        User worker = fixtures.saveUser(Role.WORKER);
+        Task task = completedTask(owner, worker);
+        ratingService.rateTask(task.getId(), stars(4), owner);
+
+        assertThatThrownBy(() -> ratingService.rateTask(task.getId(), stars(1), owner))
+                .isInstanceOf(ConflictException.class);
+
+        User rated = userRepository.findById(worker.getId()).orElseThrow();
+        assertThat(rated.getRatingCount()).isEqualTo(1);
+        assertThat(rated.getRatingSum()).isEqualTo(4L);
+        assertThat(rated.getRating()).isEqualTo(4.0);
+    }
+
+    @Test
+    void averageTracksEveryRatingReceived() {
+        User owner = fixtures.saveUser(Role.SEEKER);
+        User worker = fixtures.saveUser(Role.WORKER);
+        ratingService.rateTask(completedTask(owner, worker).getId(), stars(5), owner);
+        ratingService.rateTask(completedTask(owner, worker).getId(), stars(2), owner);
+        // The worker rating the owner back does not touch the worker's own average
+        Task third = completedTask(owner, worker);
+        ratingService.rateTask(third.getId(), stars(3), worker);
+
+        User rated = userRepository.findById(worker.getId()).orElseThrow();
+        assertThat(rated.getRatingSum()).isEqualTo(7L);
+        assertThat(rated.getRatingCount()).isEqualTo(2);
+        assertThat(rated.getRating()).isEqualTo(3.5);
+        assertThat(userRepository.findById(owner.getId()).orElseThrow().getRating()).isEqualTo(3.0);
+    }
+
+    @Test
+    void outsidersCannotRate() {
+        User owner = fixtures.saveUser(Role.SEEKER);
+        User worker = fixtures.saveUser(Role.WORKER);
+        User outsider = fixtures.saveUser(Role.WORKER);
+        Task task = completedTask(owner, worker);
+
+        assertThatThrownBy(() -> ratingService.rateTask(task.getId(), stars(5), outsider))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private Task acceptedTask(User owner, User worker) {
+        Task task = fixtures.saveTask(owner, "rating");
+        Application application = fixtures.saveApplication(task, worker);
+        taskService.acceptApplication(task.getId(), application.getId(), owner);
+        return task;
+    }
+
+    private Task completedTask(User owner, User worker) {
+        Task task = acceptedTask(owner, worker);
+        taskService.completeTask(task.getId(), owner);
+        return task;
+    }
+
+    private static RatingRequest stars(int stars) {
+        RatingRequest request = new RatingRequest();
+        request.setStars(stars);
+        return request;
+    }
+}
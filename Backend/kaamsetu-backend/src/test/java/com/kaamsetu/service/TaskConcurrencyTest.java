@@ -0,0 +1,94 @@
+package com.kaamsetu.service;
+
+import com.kaamsetu.entity.Application;
+import com.kaamsetu.entity.Task;
+import com.kaamsetu.entity.User;
+import com.kaamsetu.enums.ApplicationStatus;
+import com.kaamsetu.enums.Role;
+import com.kaamsetu.enums.TaskStatus;
+import com.kaamsetu.repository.ApplicationRepository;
+import com.kaamsetu.repository.TaskRepository;
+import com.kaamsetu.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+class TaskConcurrencyTest {
+
+    private static final int APPLICANTS = 8;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void parallelAcceptsLetExactlyOneWorkerWin() throws Exception {
+        User owner = fixtures.saveUser(Role.SEEKER);
+        Task task = fixtures.saveTask(owner, "qc-concurrency");
+
+        List<Application> applications = new ArrayList<>();
+        for (int i = 0; i < APPLICANTS; i++) {
+            applications.add(fixtures.saveApplication(task, fixtures.saveUser(Role.WORKER)));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(APPLICANTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (Application application : applications) {
+            results.add(pool.submit(() -> {
+                start.await();
+                try {
+                    taskService.acceptApplication(task.getId(), application.getId(), owner);
+                    return true;
+                } catch (RuntimeException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        long winners = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                winners++;
+            }
+        }
+
+        Task reloaded = taskRepository.findById(task.getId()).orElseThrow();
+        List<Application> stored = applicationRepository.findByTaskIdWithWorker(task.getId());
+
+        assertThat(winners).isEqualTo(1);
+        assertThat(reloaded.getStatus()).isEqualTo(TaskStatus.ACCEPTED);
+        assertThat(stored).filteredOn(app -> app.getStatus() == ApplicationStatus.ACCEPTED)
+                .singleElement()
+                .satisfies(app -> assertThat(app.getWorker().getId())
+                        .isEqualTo(reloaded.getAcceptedWorker().getId()));
+        assertThat(stored).filteredOn(app -> app.getStatus() == ApplicationStatus.REJECTED)
+                .hasSize(APPLICANTS - 1);
+    }
+}
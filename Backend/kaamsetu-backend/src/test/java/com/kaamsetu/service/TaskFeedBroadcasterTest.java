@@ -0,0 +1,172 @@
+package com.kaamsetu.service;
+
+import com.kaamsetu.dto.TaskSummaryResponse;
+import com.kaamsetu.enums.TaskEventType;
+import com.kaamsetu.enums.TaskStatus;
+import com.kaamsetu.event.TaskChangedEvent;
+import com.kaamsetu.exception.TooManyRequestsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TaskFeedBroadcasterTest {
+
+    private final TaskService taskService = mock(TaskService.class);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private TaskFeedBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void subscriberCapHoldsUnderConcurrentSubscribes() throws Exception {
+        broadcaster = broadcaster(50, 8, Duration.ofHours(1), Duration.ofSeconds(10));
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        for (int i = 0; i < 200; i++) {
+            pool.submit(() -> {
+                start.await();
+                try {
+                    broadcaster.subscribe(null, null, null, null, null);
+                    accepted.incrementAndGet();
+                } catch (TooManyRequestsException e) {
+                    // over the cap
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(accepted.get()).isEqualTo(50);
+        assertThat(broadcaster.subscriberCount()).isEqualTo(50);
+    }
+
+    @Test
+    void stalledSubscriberDoesNotDelayOthersAndIsDroppedWhenItFallsBehind() throws Exception {
+        broadcaster = broadcaster(10, 2, Duration.ofHours(1), Duration.ofSeconds(10));
+        Semaphore fastReceived = new Semaphore(0);
+        broadcaster.subscribe(stalledEmitter(), null, null, null, null, null);
+        broadcaster.subscribe(countingEmitter(fastReceived), null, null, null, null, null);
+
+        // Paced on the fast client, so only the stalled one can fall behind
+        for (long id = 1; id <= 5; id++) {
+            broadcaster.onTaskChanged(new TaskChangedEvent(id, TaskEventType.CREATED, TaskStatus.OPEN));
+            assertThat(fastReceived.tryAcquire(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        // One send in flight plus a full queue of two: the fourth event overflows it
+        awaitSubscriberCount(1);
+    }
+
+    @Test
+    void everySubscriberGetsTheSameWellFormedFrames() throws Exception {
+        broadcaster = broadcaster(10, 8, Duration.ofHours(1), Duration.ofSeconds(10));
+        Semaphore received = new Semaphore(0);
+        Queue<String> first = new ConcurrentLinkedQueue<>();
+        Queue<String> second = new ConcurrentLinkedQueue<>();
+        broadcaster.subscribe(renderingEmitter(first, received), null, null, null, null, null);
+        broadcaster.subscribe(renderingEmitter(second, received), null, null, null, null, null);
+
+        for (long id = 1; id <= 3; id++) {
+            broadcaster.onTaskChanged(new TaskChangedEvent(id, TaskEventType.CREATED, TaskStatus.OPEN));
+            assertThat(received.tryAcquire(2, 5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(List.copyOf(first))
+                .hasSize(3)
+                .containsExactlyElementsOf(List.copyOf(second))
+                .allSatisfy(frame -> assertThat(frame).startsWith("event:created\ndata:").endsWith("\n\n")
+                        .doesNotContain("\n\n\n"));
+        assertThat(broadcaster.subscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    void subscriberStuckInSendIsDroppedAfterSendTimeout() throws Exception {
+        broadcaster = broadcaster(10, 32, Duration.ofMillis(50), Duration.ofMillis(200));
+        broadcaster.subscribe(stalledEmitter(), null, null, null, null, null);
+
+        broadcaster.onTaskChanged(new TaskChangedEvent(1L, TaskEventType.CREATED, TaskStatus.OPEN));
+
+        awaitSubscriberCount(0);
+    }
+
+    private TaskFeedBroadcaster broadcaster(int maxSubscribers, int queueCapacity,
+                                            Duration heartbeat, Duration sendTimeout) {
+        when(taskService.getTaskSummary(anyLong())).thenAnswer(invocation -> TaskSummaryResponse.builder()
+                .id(invocation.getArgument(0))
+                .category("plumbing")
+                .urgency("NORMAL")
+                .build());
+        return new TaskFeedBroadcaster(taskService, maxSubscribers, Duration.ofMinutes(5),
+                heartbeat, 1, queueCapacity, sendTimeout);
+    }
+
+    // Blocks in send until the test ends, like a client that stopped reading
+    private SseEmitter stalledEmitter() {
+        return new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+    }
+
+    private SseEmitter countingEmitter(Semaphore received) {
+        return new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                received.release();
+            }
+        };
+    }
+
+    // Builds each event the way the container does and records its text, with JSON data as a placeholder
+    private SseEmitter renderingEmitter(Queue<String> frames, Semaphore received) {
+        return new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                frames.add(builder.build().stream()
+                        .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                        .map(data -> data instanceof String text ? text : "{task}")
+                        .collect(Collectors.joining()));
+                received.release();
+            }
+        };
+    }
+
+    private void awaitSubscriberCount(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (broadcaster.subscriberCount() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(broadcaster.subscriberCount()).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,100 @@
+package com.kaamsetu.service;
+
+import com.kaamsetu.dto.CursorPageResponse;
+import com.kaamsetu.dto.TaskRequest;
+import com.kaamsetu.dto.TaskResponse;
+import com.kaamsetu.dto.TaskSummaryResponse;
+import com.kaamsetu.entity.User;
+import com.kaamsetu.enums.Role;
+import com.kaamsetu.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+class TaskFeedCacheTest {
+
+    @Autowired
+    private TaskFeedCache taskFeedCache;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void committedTaskIsVisibleOnTheNextRead() {
+        String category = "feed-" + UUID.randomUUID();
+        User owner = fixtures.saveUser(Role.SEEKER);
+        assertThat(feed(category)).isEmpty();
+        assertThat(feed(category)).isEmpty();
+        assertThat(loads).hasValue(1);
+
+        TaskResponse created = taskService.createTask(taskRequest(category), owner);
+
+        assertThat(feed(category)).containsExactly(created.getId());
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void invalidationWaitsForCommitAndSkipsRollbacks() {
+        String category = "feed-" + UUID.randomUUID();
+        User owner = fixtures.saveUser(Role.SEEKER);
+        feed(category);
+        long invalidations = taskFeedCache.invalidations();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            taskService.createTask(taskRequest(category), owner);
+            // Still inside the transaction: the page must not be reloaded from uncommitted rows
+            assertThat(taskFeedCache.invalidations()).isEqualTo(invalidations);
+            status.setRollbackOnly();
+        });
+
+        assertThat(taskFeedCache.invalidations()).isEqualTo(invalidations);
+        assertThat(feed(category)).isEmpty();
+        assertThat(loads).hasValue(1);
+
+        transactionTemplate.executeWithoutResult(status -> taskService.createTask(taskRequest(category), owner));
+
+        assertThat(taskFeedCache.invalidations()).isEqualTo(invalidations + 1);
+        assertThat(feed(category)).hasSize(1);
+        assertThat(loads).hasValue(2);
+    }
+
+    // Same path as GET /tasks, counting how often the page is actually loaded
+    private List<Long> feed(String category) {
+        CursorPageResponse<?> page = taskFeedCache.get(category, null, null, null, null, null, false, () -> {
+            loads.incrementAndGet();
+            return taskService.getAllTasks(category, null, null, null, null, null);
+        });
+        return page.getItems().stream()
+                .map(item -> ((TaskSummaryResponse) item).getId())
+                .toList();
+    }
+
+    private static TaskRequest taskRequest(String category) {
+        TaskRequest request = new TaskRequest();
+        request.setTitle("Feed task");
+        request.setDescription("Invalidates the feed");
+        request.setCategory(category);
+        request.setBudget(100);
+        return request;
+    }
+}
@@ -0,0 +1,135 @@
+package com.kaamsetu.service;
+
+import com.kaamsetu.dto.AppliedTaskResponse;
+import com.kaamsetu.dto.CursorPageResponse;
+import com.kaamsetu.dto.TaskResponse;
+import com.kaamsetu.entity.Application;
+import com.kaamsetu.entity.Task;
+import com.kaamsetu.entity.User;
+import com.kaamsetu.enums.ApplicationStatus;
+import com.kaamsetu.enums.Role;
+import com.kaamsetu.support.TestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+class TaskServiceQueryCountTest {
+
+    private static final int TASKS = 30;
+    private static final int APPLICANTS = 3;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void feedPageLoadsApplicationsWithBoundedStatements() {
+        String category = "qc-" + UUID.randomUUID();
+        User owner = fixtures.saveUser(Role.SEEKER);
+        List<User> workers = List.of(
+                fixtures.saveUser(Role.WORKER), fixtures.saveUser(Role.WORKER), fixtures.saveUser(Role.WORKER));
+
+        for (int i = 0; i < TASKS; i++) {
+            Task task = fixtures.saveTask(owner, category);
+            for (User worker : workers) {
+                fixtures.saveApplication(task, worker);
+            }
+        }
+
+        statistics.clear();
+        CursorPageResponse<TaskResponse> page =
+                taskService.getAllTasksWithApplications(category, null, null, null, null, 50);
+
+        assertThat(page.getItems()).hasSize(TASKS);
+        assertThat(page.getItems())
+                .allSatisfy(task -> assertThat(task.getApplications()).hasSize(APPLICANTS));
+        // Feed query + application IN query + batched user/skill loads, independent of page size
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(8);
+    }
+
+    @Test
+    void acceptApplicationStatementCountIsIndependentOfApplicants() {
+        long fewApplicants = acceptFirstOf(2);
+        long manyApplicants = acceptFirstOf(20);
+
+        assertThat(manyApplicants).isEqualTo(fewApplicants);
+    }
+
+    @Test
+    void appliedTasksPageIsASingleStatement() {
+        User owner = fixtures.saveUser(Role.SEEKER);
+        User worker = fixtures.saveUser(Role.WORKER);
+        for (int i = 0; i < 25; i++) {
+            Task task = fixtures.saveTask(owner, "qc-applied");
+            fixtures.saveApplication(task, worker);
+            fixtures.saveApplication(task, fixtures.saveUser(Role.WORKER));
+        }
+
+        statistics.clear();
+        CursorPageResponse<AppliedTaskResponse> first = taskService.getAppliedTasks(worker.getId(), null, 10);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(first.getItems()).hasSize(10);
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(first.getItems()).allSatisfy(task -> {
+            assertThat(task.getApplicationCount()).isEqualTo(2);
+            assertThat(task.getApplicationStatus()).isEqualTo(ApplicationStatus.PENDING.name());
+        });
+
+        List<Long> taskIds = new ArrayList<>(first.getItems().stream().map(AppliedTaskResponse::getId).toList());
+        String cursor = first.getNextCursor();
+        while (cursor != null) {
+            CursorPageResponse<AppliedTaskResponse> next = taskService.getAppliedTasks(worker.getId(), cursor, 10);
+            next.getItems().forEach(task -> taskIds.add(task.getId()));
+            cursor = next.getNextCursor();
+        }
+        assertThat(taskIds).hasSize(25).doesNotHaveDuplicates();
+    }
+
+    private long acceptFirstOf(int applicants) {
+        User owner = fixtures.saveUser(Role.SEEKER);
+        Task task = fixtures.saveTask(owner, "qc-accept");
+        List<Application> applications = new ArrayList<>();
+        for (int i = 0; i < applicants; i++) {
+            applications.add(fixtures.saveApplication(task, fixtures.saveUser(Role.WORKER)));
+        }
+
+        statistics.clear();
+        TaskResponse response = taskService.acceptApplication(
+                task.getId(), applications.get(0).getId(), owner);
+        long statements = statistics.getPrepareStatementCount();
+
+        assertThat(response.getApplications()).hasSize(applicants);
+        assertThat(response.getApplications())
+                .filteredOn(app -> app.getStatus().equals(ApplicationStatus.REJECTED.name()))
+                .hasSize(applicants - 1);
+        return statements;
+    }
+}
@@ -0,0 +1,102 @@
+package com.kaamsetu.service;
+
+import com.kaamsetu.dto.ApplicationRequest;
+import com.kaamsetu.dto.TaskRequest;
+import com.kaamsetu.entity.Task;
+import com.kaamsetu.entity.User;
+import com.kaamsetu.enums.Role;
+import com.kaamsetu.repository.UserRepository;
+import com.kaamsetu.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Every call gets the same stale User instance, as concurrent requests each hold their own copy
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+class UserCounterTest {
+
+    private static final int PARALLEL = 8;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void parallelApplicationsAreAllCounted() throws Exception {
+        User owner = fixtures.saveUser(Role.SEEKER);
+        User worker = fixtures.saveUser(Role.WORKER);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < PARALLEL; i++) {
+            tasks.add(fixtures.saveTask(owner, "counter"));
+        }
+
+        runConcurrently(tasks.stream()
+                .<Callable<?>>map(task -> () -> taskService.applyForTask(task.getId(), new ApplicationRequest(), worker))
+                .toList());
+
+        assertThat(userRepository.findById(worker.getId()).orElseThrow().getApplicationsSent())
+                .isEqualTo(PARALLEL);
+    }
+
+    @Test
+    void parallelPostsAreAllCounted() throws Exception {
+        User owner = fixtures.saveUser(Role.SEEKER);
+        List<Callable<?>> posts = new ArrayList<>();
+        for (int i = 0; i < PARALLEL; i++) {
+            posts.add(() -> taskService.createTask(taskRequest(), owner));
+        }
+
+        runConcurrently(posts);
+
+        User reloaded = userRepository.findById(owner.getId()).orElseThrow();
+        assertThat(reloaded.getTasksPosted()).isEqualTo(PARALLEL);
+        assertThat(reloaded.getRevision()).isGreaterThanOrEqualTo(owner.getRevision() + PARALLEL);
+    }
+
+    private static TaskRequest taskRequest() {
+        TaskRequest request = new TaskRequest();
+        request.setTitle("Counter task");
+        request.setDescription("Posted in parallel");
+        request.setCategory("counter");
+        request.setBudget(100);
+        return request;
+    }
+
+    private static void runConcurrently(List<Callable<?>> calls) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(calls.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (Callable<?> call : calls) {
+            results.add(pool.submit(() -> {
+                start.await();
+                return call.call();
+            }));
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        for (Future<?> result : results) {
+            result.get(); // rethrows any failed call
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.kaamsetu.support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Asserts the number of SQL statements issued by the last HTTP request (e.g. a MockMvc
+ * call) made in the annotated test, as counted by {@code SqlStatementCounter}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(StatementCountExtension.class)
+public @interface ExpectedStatementCount {
+    int value();
+}
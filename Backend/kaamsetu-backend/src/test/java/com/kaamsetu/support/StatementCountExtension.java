@@ -0,0 +1,31 @@
+package com.kaamsetu.support;
+
+import com.kaamsetu.config.SqlStatementCounter;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Backs {@link ExpectedStatementCount}; MockMvc runs requests on the test thread. */
+class StatementCountExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        SqlStatementCounter.clearLastCompleted();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        if (context.getExecutionException().isPresent()) {
+            return;
+        }
+        AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), ExpectedStatementCount.class)
+                .ifPresent(expected -> {
+                    Integer statements = SqlStatementCounter.lastCompleted();
+                    assertThat(statements).as("no request was counted in this test").isNotNull();
+                    assertThat(statements).as("SQL statements in last request").isEqualTo(expected.value());
+                });
+    }
+}
@@ -0,0 +1,68 @@
+package com.kaamsetu.support;
+
+import com.kaamsetu.entity.Application;
+import com.kaamsetu.entity.Location;
+import com.kaamsetu.entity.Task;
+import com.kaamsetu.entity.User;
+import com.kaamsetu.enums.Role;
+import com.kaamsetu.enums.UrgencyLevel;
+import com.kaamsetu.repository.ApplicationRepository;
+import com.kaamsetu.repository.TaskRepository;
+import com.kaamsetu.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Persists minimal users, tasks and applications straight through the repositories,
+ * bypassing services and their events. Pull in with {@code @Import(TestFixtures.class)}.
+ */
+@TestComponent
+@RequiredArgsConstructor
+public class TestFixtures {
+
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final ApplicationRepository applicationRepository;
+
+    public User saveUser(Role role, String... skills) {
+        return userRepository.save(User.builder()
+                .name("Fixture " + role)
+                .phone(UUID.randomUUID().toString().substring(0, 10))
+                .password("x")
+                .role(role)
+                .skills(new ArrayList<>(List.of(skills)))
+                .build());
+    }
+
+    public Task saveTask(User owner, String category) {
+        return taskRepository.save(task(owner, category).build());
+    }
+
+    public Task saveTask(User owner, String category, double lat, double lng) {
+        return taskRepository.save(task(owner, category)
+                .location(new Location(lat, lng, "Fixture address"))
+                .build());
+    }
+
+    public Application saveApplication(Task task, User worker) {
+        return applicationRepository.save(Application.builder()
+                .task(task)
+                .worker(worker)
+                .proposedBudget(100)
+                .build());
+    }
+
+    private static Task.TaskBuilder task(User owner, String category) {
+        return Task.builder()
+                .title("Fixture task")
+                .description("Test fixture")
+                .category(category)
+                .budget(100)
+                .urgency(UrgencyLevel.NORMAL)
+                .createdBy(owner);
+    }
+}
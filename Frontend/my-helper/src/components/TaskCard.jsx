@@ -88,7 +88,7 @@ export default function TaskCard({ task }) {
           <div className="flex items-center gap-2.5">
             <span className="inline-flex items-center gap-1 text-[12px] text-surface-400">
               <HiOutlineUserGroup className="w-3.5 h-3.5" />
-              {task.applications?.length || 0}
+              {task.applicationCount ?? task.applications?.length ?? 0}
             </span>
             <span
               className={`inline-flex items-center gap-1.5 text-[11px] font-bold px-2.5 py-1 rounded-lg ${status.bg} ${status.text}`}
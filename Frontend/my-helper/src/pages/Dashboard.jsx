@@ -1,4 +1,4 @@
-import { useState, useEffect } from "react";
+import { useState, useEffect, useRef } from "react";
 import { Link } from "react-router-dom";
 import { useAuth } from "../context/AuthContext";
 import TaskCard from "../components/TaskCard";
@@ -14,36 +14,64 @@ import {
 export default function Dashboard() {
   const { user } = useAuth();
   const [tasks, setTasks] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
   const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [search, setSearch] = useState("");
+  const [debouncedSearch, setDebouncedSearch] = useState("");
   const [selectedCategory, setSelectedCategory] = useState("");
   const [selectedUrgency, setSelectedUrgency] = useState("");
   const [showFilters, setShowFilters] = useState(false);
 
-  useEffect(() => { loadTasks(); }, [selectedCategory, selectedUrgency]);
+  // Ignores responses from a load that a newer filter or search has replaced
+  const requestId = useRef(0);
+
+  // Search runs on the server, so wait for a pause in typing
+  useEffect(() => {
+    const timer = setTimeout(() => setDebouncedSearch(search.trim()), 300);
+    return () => clearTimeout(timer);
+  }, [search]);
+
+  useEffect(() => { loadTasks(); }, [selectedCategory, selectedUrgency, debouncedSearch]);
+
+  const fetchPage = (cursor) =>
+    taskService.getAllTasks({
+      category: selectedCategory, urgency: selectedUrgency, status: "OPEN",
+      search: debouncedSearch, cursor,
+    });
 
   const loadTasks = async () => {
+    const id = ++requestId.current;
     setLoading(true);
     try {
-      const data = await taskService.getAllTasks({
-        category: selectedCategory, urgency: selectedUrgency, status: "OPEN",
-      });
-      setTasks(data);
+      const page = await fetchPage();
+      if (id !== requestId.current) return;
+      setTasks(page.items);
+      setNextCursor(page.hasMore ? page.nextCursor : null);
     } catch (err) {
       console.error("Failed to load tasks:", err);
     } finally {
-      setLoading(false);
+      if (id === requestId.current) setLoading(false);
     }
   };
 
-  const filteredTasks = search
-    ? tasks.filter((t) =>
-        t.title.toLowerCase().includes(search.toLowerCase()) ||
-        t.description.toLowerCase().includes(search.toLowerCase()))
-    : tasks;
+  const loadMore = async () => {
+    const id = requestId.current;
+    setLoadingMore(true);
+    try {
+      const page = await fetchPage(nextCursor);
+      if (id !== requestId.current) return;
+      setTasks((prev) => [...prev, ...page.items]);
+      setNextCursor(page.hasMore ? page.nextCursor : null);
+    } catch (err) {
+      console.error("Failed to load more tasks:", err);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
 
-  const emergencyTasks = filteredTasks.filter((t) => t.urgency === "EMERGENCY");
-  const regularTasks = filteredTasks.filter((t) => t.urgency !== "EMERGENCY");
+  const emergencyTasks = tasks.filter((t) => t.urgency === "EMERGENCY");
+  const regularTasks = tasks.filter((t) => t.urgency !== "EMERGENCY");
   const clearFilters = () => { setSelectedCategory(""); setSelectedUrgency(""); setSearch(""); };
   const hasFilters = selectedCategory || selectedUrgency || search;
 
@@ -189,6 +217,15 @@ export default function Dashboard() {
               )}
             </div>
           )}
+
+          {nextCursor && (
+            <div className="flex justify-center mt-8">
+              <button onClick={loadMore} disabled={loadingMore}
+                className="px-6 py-2.5 bg-white border border-surface-200 text-surface-600 rounded-xl hover:border-surface-300 transition text-[13px] font-bold disabled:opacity-60">
+                {loadingMore ? "Loading…" : "Load more"}
+              </button>
+            </div>
+          )}
         </>
       )}
     </div>
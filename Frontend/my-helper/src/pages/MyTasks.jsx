@@ -10,7 +10,9 @@ export default function MyTasks() {
   const [tab, setTab] = useState("posted");
   const [posted, setPosted] = useState([]);
   const [applied, setApplied] = useState([]);
+  const [appliedCursor, setAppliedCursor] = useState(null);
   const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
 
   useEffect(() => {
     loadTasks();
@@ -24,7 +26,8 @@ export default function MyTasks() {
         taskService.getAppliedTasks(user.id),
       ]);
       setPosted(p);
-      setApplied(a);
+      setApplied(a.items);
+      setAppliedCursor(a.hasMore ? a.nextCursor : null);
     } catch (err) {
       console.error(err);
     } finally {
@@ -32,6 +35,19 @@ export default function MyTasks() {
     }
   };
 
+  const loadMoreApplied = async () => {
+    setLoadingMore(true);
+    try {
+      const page = await taskService.getAppliedTasks(user.id, { cursor: appliedCursor });
+      setApplied((prev) => [...prev, ...page.items]);
+      setAppliedCursor(page.hasMore ? page.nextCursor : null);
+    } catch (err) {
+      console.error(err);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const currentList = tab === "posted" ? posted : applied;
 
   return (
@@ -67,7 +83,7 @@ export default function MyTasks() {
               : "text-gray-500 hover:text-gray-700"
           }`}
         >
-          Applied ({applied.length})
+          Applied ({applied.length}{appliedCursor ? "+" : ""})
         </button>
       </div>
 
@@ -76,11 +92,24 @@ export default function MyTasks() {
           <div className="w-10 h-10 border-4 border-primary-200 border-t-primary-600 rounded-full animate-spin" />
         </div>
       ) : currentList.length > 0 ? (
-        <div className="grid sm:grid-cols-2 lg:grid-cols-3 gap-4">
-          {currentList.map((task) => (
-            <TaskCard key={task.id} task={task} />
-          ))}
-        </div>
+        <>
+          <div className="grid sm:grid-cols-2 lg:grid-cols-3 gap-4">
+            {currentList.map((task) => (
+              <TaskCard key={task.id} task={task} />
+            ))}
+          </div>
+          {tab === "applied" && appliedCursor && (
+            <div className="flex justify-center mt-6">
+              <button
+                onClick={loadMoreApplied}
+                disabled={loadingMore}
+                className="px-6 py-2.5 bg-white border border-gray-200 text-gray-700 font-medium rounded-xl hover:border-gray-300 transition text-sm disabled:opacity-60"
+              >
+                {loadingMore ? "Loading…" : "Load more"}
+              </button>
+            </div>
+          )}
+        </>
       ) : (
         <div className="text-center py-20">
           <p className="text-5xl mb-4">{tab === "posted" ? "📝" : "🔍"}</p>
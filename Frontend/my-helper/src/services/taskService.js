@@ -7,8 +7,22 @@ const taskService = {
     if (filters.urgency) params.urgency = filters.urgency;
     if (filters.status) params.status = filters.status;
     if (filters.search) params.search = filters.search;
+    if (filters.cursor) params.cursor = filters.cursor;
+    if (filters.size) params.size = filters.size;
 
+    // Feed is cursor-paginated: pass nextCursor back as filters.cursor for the next page
     const res = await api.get("/tasks", { params });
+    const { items, nextCursor, hasMore } = res.data;
+    return { items, nextCursor, hasMore };
+  },
+
+  async getNearbyTasks(lat, lng, radiusKm) {
+    const res = await api.get("/tasks/nearby", { params: { lat, lng, radiusKm } });
+    return res.data;
+  },
+
+  async getRecommendedTasks(lat, lng) {
+    const res = await api.get("/tasks/recommended", { params: { lat, lng } });
     return res.data;
   },
 
@@ -39,14 +53,21 @@ const taskService = {
     return res.data;
   },
 
+  async rateTask(taskId, rating) {
+    const res = await api.post(`/tasks/${taskId}/rating`, rating);
+    return res.data;
+  },
+
   async getTasksByUser(userId) {
     const res = await api.get(`/tasks/user/${userId}`);
     return res.data;
   },
 
-  async getAppliedTasks(userId) {
-    const res = await api.get(`/tasks/applied/${userId}`);
-    return res.data;
+  async getAppliedTasks(userId, { cursor, size } = {}) {
+    // Cursor-paginated like the feed; each item carries the worker's own applicationStatus
+    const res = await api.get(`/tasks/applied/${userId}`, { params: { cursor, size } });
+    const { items, nextCursor, hasMore } = res.data;
+    return { items, nextCursor, hasMore };
   },
 };
 